@@ -25,8 +25,10 @@ import pwe.planner.model.ReadOnlyUserPrefs;
 import pwe.planner.model.UserPrefs;
 import pwe.planner.model.util.SampleDataUtil;
 import pwe.planner.storage.ApplicationStorage;
+import pwe.planner.storage.BinarySnapshotStorage;
 import pwe.planner.storage.JsonApplicationStorage;
 import pwe.planner.storage.JsonUserPrefsStorage;
+import pwe.planner.storage.SnapshotStorage;
 import pwe.planner.storage.Storage;
 import pwe.planner.storage.StorageManager;
 import pwe.planner.storage.UserPrefsStorage;
@@ -60,9 +62,15 @@ public class MainApp extends Application {
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         ApplicationStorage applicationStorage =
                 new JsonApplicationStorage(userPrefs.getModuleListFilePath(), userPrefs.getDegreePlannerListFilePath(),
-                        userPrefs.getRequirementCategoryListFilePath());
-
-        storage = new StorageManager(applicationStorage, userPrefsStorage);
+                        userPrefs.getRequirementCategoryListFilePath(), config.isCompactDataFiles());
+
+        if (config.isSnapshotDataFiles()) {
+            SnapshotStorage snapshotStorage = new BinarySnapshotStorage(userPrefs.getModuleListFilePath()
+                    .resolveSibling(BinarySnapshotStorage.DEFAULT_SNAPSHOT_FILE_NAME));
+            storage = new StorageManager(applicationStorage, userPrefsStorage, snapshotStorage);
+        } else {
+            storage = new StorageManager(applicationStorage, userPrefsStorage);
+        }
 
         initLogging(config);
 
@@ -198,6 +206,8 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping PlanWithEase ] =============================");
+        logic.shutdown();
+        storage.refreshSnapshot();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
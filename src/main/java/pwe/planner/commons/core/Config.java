@@ -17,6 +17,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean compactDataFiles = false;
+    private boolean snapshotDataFiles = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -38,6 +40,29 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the data files are saved without indentation, which makes them smaller and faster to save.
+     */
+    public boolean isCompactDataFiles() {
+        return compactDataFiles;
+    }
+
+    public void setCompactDataFiles(boolean compactDataFiles) {
+        this.compactDataFiles = compactDataFiles;
+    }
+
+    /**
+     * Returns true if a binary snapshot of the data files is saved when the application stops, and read at startup
+     * instead of the data files when they have not changed since.
+     */
+    public boolean isSnapshotDataFiles() {
+        return snapshotDataFiles;
+    }
+
+    public void setSnapshotDataFiles(boolean snapshotDataFiles) {
+        this.snapshotDataFiles = snapshotDataFiles;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +75,14 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath.toAbsolutePath(), o.userPrefsFilePath.toAbsolutePath());
+                && Objects.equals(userPrefsFilePath.toAbsolutePath(), o.userPrefsFilePath.toAbsolutePath())
+                && compactDataFiles == o.compactDataFiles
+                && snapshotDataFiles == o.snapshotDataFiles;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath.toAbsolutePath(), compactDataFiles, snapshotDataFiles);
     }
 
     @Override
@@ -66,6 +93,12 @@ public class Config {
                 .append('\n')
                 .append("Preference file Location : ")
                 .append(Paths.get("").toAbsolutePath().relativize(userPrefsFilePath.toAbsolutePath()))
+                .append('\n')
+                .append("Compact data files : ")
+                .append(compactDataFiles)
+                .append('\n')
+                .append("Snapshot data files : ")
+                .append(snapshotDataFiles)
                 .toString();
     }
 
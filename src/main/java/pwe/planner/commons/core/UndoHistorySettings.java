@@ -0,0 +1,65 @@
+package pwe.planner.commons.core;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the settings limiting how much undo history is retained.
+ * The history is limited to at most {@code maxStates} undoable states, and the states are further limited such that
+ * they retain at most {@code maxRetainedItems} modules, degree planners and requirement categories in total.
+ * Guarantees: immutable.
+ */
+public class UndoHistorySettings implements Serializable {
+
+    private static final int DEFAULT_MAX_STATES = 100;
+    private static final int DEFAULT_MAX_RETAINED_ITEMS = 100000;
+
+    private final int maxStates;
+    private final int maxRetainedItems;
+
+    public UndoHistorySettings() {
+        maxStates = DEFAULT_MAX_STATES;
+        maxRetainedItems = DEFAULT_MAX_RETAINED_ITEMS;
+    }
+
+    public UndoHistorySettings(int maxStates, int maxRetainedItems) {
+        this.maxStates = maxStates;
+        this.maxRetainedItems = maxRetainedItems;
+    }
+
+    public int getMaxStates() {
+        return maxStates;
+    }
+
+    public int getMaxRetainedItems() {
+        return maxRetainedItems;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof UndoHistorySettings)) { //this handles null as well.
+            return false;
+        }
+
+        UndoHistorySettings o = (UndoHistorySettings) other;
+
+        return maxStates == o.maxStates
+                && maxRetainedItems == o.maxRetainedItems;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxStates, maxRetainedItems);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Max states : " + maxStates + "\n");
+        sb.append("Max retained items : " + maxRetainedItems);
+        return sb.toString();
+    }
+}
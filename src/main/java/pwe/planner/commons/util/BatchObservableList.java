@@ -0,0 +1,56 @@
+package pwe.planner.commons.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList}, whose modifications can be grouped into batches.
+ * Listeners are notified of all the modifications made within a batch through a single change when the outermost
+ * batch ends, instead of through one change per modification.
+ */
+public class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> backingList = new ArrayList<>();
+
+    /**
+     * Begins a batch of modifications.
+     * Batches may be nested, in which case the modifications are only published when the outermost batch ends.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends a batch of modifications begun with {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return backingList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        backingList.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return backingList.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return backingList.remove(index);
+    }
+}
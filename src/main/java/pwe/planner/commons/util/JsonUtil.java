@@ -3,7 +3,9 @@ package pwe.planner.commons.util;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -12,10 +14,14 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -23,6 +29,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import pwe.planner.commons.core.LogsCenter;
 import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -40,8 +47,26 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Writers are immutable and thread-safe, so they are created once and reused for every save
+    private static final ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    private static final ObjectWriter compactWriter = objectMapper.writer();
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, false);
+    }
+
+    /**
+     * Serializes {@code objectToSerialize} directly to {@code jsonFile}, without building the JSON string in memory.
+     * @param isCompact if true, the JSON is written without indentation.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact)
+            throws IOException {
+        requireAllNonNull(jsonFile, objectToSerialize);
+
+        ObjectWriter writer = isCompact ? compactWriter : prettyWriter;
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(jsonFile))) {
+            writer.writeValue(outputStream, objectToSerialize);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -79,6 +104,59 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the array {@code arrayFieldName} of the Json object in the given file one at a time,
+     * passing each element to {@code elementConsumer} as soon as it is read.
+     * Unlike {@link #readJsonFile(Path, Class)}, neither the file contents nor the whole array are held in memory.
+     * @param filePath cannot be null.
+     * @param elementClass each element of the array has to correspond to the structure in the class given here.
+     * @return false if the file is not found, true otherwise.
+     * @throws DataConversionException if the file format is not as expected.
+     * @throws IllegalValueException if {@code elementConsumer} throws it.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            JsonElementConsumer<? super T> elementConsumer) throws DataConversionException, IllegalValueException {
+        requireAllNonNull(filePath, arrayFieldName, elementClass, elementConsumer);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(filePath.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw JsonMappingException.from(parser, "Expected a Json object");
+            }
+
+            boolean hasArrayField = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean isArrayField = arrayFieldName.equals(parser.getCurrentName());
+                JsonToken valueToken = parser.nextToken();
+                if (!isArrayField) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw JsonMappingException.from(parser, "Expected field " + arrayFieldName + " to be an array");
+                }
+
+                hasArrayField = true;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementConsumer.accept(objectMapper.readValue(parser, elementClass));
+                }
+            }
+
+            if (!hasArrayField) {
+                throw JsonMappingException.from(parser, "Missing array field " + arrayFieldName);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        return true;
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -87,9 +165,20 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, false);
+    }
+
+    /**
+     * Saves the Json object to the specified file, without indentation if {@code isCompact} is true.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact) throws IOException {
         requireAllNonNull(filePath, jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact);
     }
 
 
@@ -113,7 +202,16 @@ public class JsonUtil {
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
         requireNonNull(instance);
 
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
+        return prettyWriter.writeValueAsString(instance);
+    }
+
+    /**
+     * Represents an operation that accepts each element read by
+     * {@link #readJsonArrayFile(Path, String, Class, JsonElementConsumer)}.
+     */
+    @FunctionalInterface
+    public interface JsonElementConsumer<T> {
+        void accept(T element) throws IllegalValueException;
     }
 
     /**
@@ -0,0 +1,60 @@
+package pwe.planner.commons.util;
+
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache that holds at most a fixed number of entries, evicting the least recently used entry to make room for a
+ * new one. Does not allow null keys or values.
+ * All operations are synchronized, so the cache may be shared between threads.
+ */
+public class LruCache<K, V> {
+    public static final String MESSAGE_CONSTRAINTS = "The capacity of the cache should be positive";
+
+    private final Map<K, V> entries;
+
+    /**
+     * Creates an {@code LruCache} that holds at most {@code capacity} entries.
+     */
+    public LruCache(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CONSTRAINTS);
+
+        // access-ordered, so that the eldest entry is the least recently used one
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached for {@code key}, or null if there is none.
+     */
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Caches {@code value} for {@code key}, evicting the least recently used entry if the cache is full.
+     */
+    public synchronized void put(K key, V value) {
+        requireAllNonNull(key, value);
+
+        entries.put(key, value);
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
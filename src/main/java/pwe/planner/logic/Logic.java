@@ -8,11 +8,13 @@ import pwe.planner.commons.core.GuiSettings;
 import pwe.planner.logic.commands.CommandResult;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.logic.parser.exceptions.ParseException;
+import pwe.planner.model.CreditAggregates;
 import pwe.planner.model.Model;
 import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.storage.SaveResult;
 
 /**
  * API of the Logic component
@@ -44,6 +46,30 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of modules */
     ObservableList<RequirementCategory> getFilteredRequirementCategoryList();
 
+    /**
+     * Returns the total credits of the modules in each requirement category and degree planner.
+     *
+     * @see Model#getCreditAggregates()
+     */
+    CreditAggregates getCreditAggregates();
+
+    /**
+     * Returns the result of the latest save of the application that has been written, or a property holding null if
+     * none has. Although the application is saved in the background, the property is updated on the JavaFX
+     * application thread.
+     */
+    ReadOnlyProperty<SaveResult> saveResultProperty();
+
+    /**
+     * Blocks until every change to the application made by previously executed commands has been saved.
+     */
+    void awaitPendingSaves();
+
+    /**
+     * Saves any changes to the application that have not been saved yet, and stops saving in the background.
+     */
+    void shutdown();
+
     /**
      * Returns an unmodifiable view of the list of commands entered by the user.
      * The list is ordered from the least recent command to the most recent command.
@@ -3,7 +3,6 @@ package pwe.planner.logic;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.io.IOException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
@@ -16,31 +15,37 @@ import pwe.planner.logic.commands.CommandResult;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.logic.parser.CommandParser;
 import pwe.planner.logic.parser.exceptions.ParseException;
+import pwe.planner.model.CreditAggregates;
 import pwe.planner.model.Model;
 import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.storage.ApplicationSaver;
+import pwe.planner.storage.SaveResult;
 import pwe.planner.storage.Storage;
 
 /**
  * The main LogicManager of the app.
  */
 public class LogicManager implements Logic {
-    public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final ApplicationSaver applicationSaver;
     private final CommandHistory history;
     private final CommandParser commandParser;
     private boolean applicationModified;
 
     public LogicManager(Model model, Storage storage) {
-        requireAllNonNull(model, storage);
+        this(model, new ApplicationSaver(storage));
+    }
+
+    public LogicManager(Model model, ApplicationSaver applicationSaver) {
+        requireAllNonNull(model, applicationSaver);
 
         this.model = model;
-        this.storage = storage;
+        this.applicationSaver = applicationSaver;
         history = new CommandHistory();
         commandParser = new CommandParser();
 
@@ -64,12 +69,8 @@ public class LogicManager implements Logic {
         }
 
         if (applicationModified) {
-            logger.info("Application modified, saving to file.");
-            try {
-                storage.saveApplication(model.getApplication());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
+            logger.info("Application modified, saving to file in the background.");
+            applicationSaver.save(model.getApplication());
         }
 
         return commandResult;
@@ -95,6 +96,26 @@ public class LogicManager implements Logic {
         return model.getFilteredRequirementCategoryList();
     }
 
+    @Override
+    public CreditAggregates getCreditAggregates() {
+        return model.getCreditAggregates();
+    }
+
+    @Override
+    public ReadOnlyProperty<SaveResult> saveResultProperty() {
+        return applicationSaver.saveResultProperty();
+    }
+
+    @Override
+    public void awaitPendingSaves() {
+        applicationSaver.flush();
+    }
+
+    @Override
+    public void shutdown() {
+        applicationSaver.shutdown();
+    }
+
     @Override
     public ObservableList<String> getHistory() {
         return history.getHistory();
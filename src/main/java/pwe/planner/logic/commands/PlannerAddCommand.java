@@ -85,9 +85,8 @@ public class PlannerAddCommand extends Command {
             throw new CommandException(String.format(MESSAGE_NONEXISTENT_DEGREE_PLANNER, yearToAddTo, semesterToAddTo));
         }
 
-        Set<Code> duplicatePlannerCodes = codesToAdd.stream().filter(codesToCheck -> model.getApplication()
-                .getDegreePlannerList().stream().map(DegreePlanner::getCodes)
-                .anyMatch(selectedPlannerCodes -> selectedPlannerCodes.contains(codesToCheck)))
+        Set<Code> duplicatePlannerCodes = codesToAdd.stream()
+                .filter(codeToCheck -> model.getDegreePlannerByCode(codeToCheck) != null)
                 .collect(Collectors.toSet());
         if (!duplicatePlannerCodes.isEmpty()) {
             // Converts a set to a string to remove the brackets of set.
@@ -140,9 +139,8 @@ public class PlannerAddCommand extends Command {
             Module module = model.getModuleByCode(codeToAdd);
 
             // Returns the relevant duplicate co-requisite(s) of the code to add in the entire degree plan.
-            Set<Code> duplicateCoreqs = module.getCorequisites().stream().filter(coreqToCheck -> model.getApplication()
-                    .getDegreePlannerList().stream().map(DegreePlanner::getCodes)
-                    .anyMatch(selectedPlannerCodes -> selectedPlannerCodes.contains(coreqToCheck)))
+            Set<Code> duplicateCoreqs = module.getCorequisites().stream()
+                    .filter(coreqToCheck -> model.getDegreePlannerByCode(coreqToCheck) != null)
                     .collect(Collectors.toSet());
             Set<Code> invalidCoreqs = new HashSet<>(duplicateCoreqs);
             // Returns the invalid duplicate co-requisite(s) that exists in a different section of the degree plan.
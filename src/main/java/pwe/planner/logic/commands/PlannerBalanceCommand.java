@@ -0,0 +1,57 @@
+package pwe.planner.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_YEAR;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.model.Model;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.planner.DegreePlanBalancer;
+import pwe.planner.model.planner.DegreePlanner;
+
+/**
+ * Suggests the modules to move between semesters to balance the workload of the degree plan.
+ * The degree plan is left unchanged, so that users can review the suggested moves before applying them.
+ */
+public class PlannerBalanceCommand extends Command {
+
+    public static final String COMMAND_WORD = "planner_balance";
+
+    public static final String MESSAGE_SUCCESS = "Moving the following module(s) balances the modular credits of"
+            + " semesters 1 and 2 from %1$s to %2$s per semester.\n"
+            + "[Tip] Enter the following command(s) to move the module(s) along with their co-requisites:\n%3$s";
+    public static final String MESSAGE_ALREADY_BALANCED = "The modular credits of semesters 1 and 2 of the degree plan"
+            + " are already balanced.";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+
+        DegreePlanBalancer balancer = new DegreePlanBalancer(model.getApplication());
+        Map<Code, DegreePlanner> moves = balancer.getMoves();
+        if (moves.isEmpty()) {
+            return new CommandResult(MESSAGE_ALREADY_BALANCED);
+        }
+
+        String moveCommands = StringUtil.joinStreamAsString(moves.entrySet().stream()
+                .map(move -> PlannerMoveCommand.COMMAND_WORD + " "
+                        + PREFIX_YEAR + move.getValue().getYear() + " "
+                        + PREFIX_SEMESTER + move.getValue().getSemester() + " "
+                        + PREFIX_CODE + move.getKey()), "\n");
+        return new CommandResult(String.format(MESSAGE_SUCCESS, getCreditRange(balancer.getInitialCredits()),
+                getCreditRange(balancer.getBalancedCredits()), moveCommands));
+    }
+
+    /**
+     * Returns the range of {@code credits} in the format "MIN-MAX".
+     */
+    private static String getCreditRange(int[] credits) {
+        return Arrays.stream(credits).min().getAsInt() + "-" + Arrays.stream(credits).max().getAsInt();
+    }
+}
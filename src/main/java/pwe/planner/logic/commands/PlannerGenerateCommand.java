@@ -0,0 +1,134 @@
+package pwe.planner.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_MAX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_MIN_CREDITS;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.logic.commands.exceptions.CommandException;
+import pwe.planner.model.Model;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.planner.DegreePlanGenerator;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.exceptions.DegreePlanGenerationException;
+
+/**
+ * Generates a degree plan that fulfils every requirement category by adding modules to the degree plan.
+ */
+public class PlannerGenerateCommand extends Command {
+
+    public static final String COMMAND_WORD = "planner_generate";
+
+    public static final String DEFAULT_MIN_CREDITS = "0";
+    public static final String DEFAULT_MAX_CREDITS = "20";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Generates a degree plan that fulfils every "
+            + "requirement category by adding modules to the degree plan. "
+            + "Parameters: "
+            + "[" + PREFIX_MIN_CREDITS + "MIN_CREDITS_PER_SEMESTER] "
+            + "[" + PREFIX_MAX_CREDITS + "MAX_CREDITS_PER_SEMESTER]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_MIN_CREDITS + "12 "
+            + PREFIX_MAX_CREDITS + "20";
+
+    public static final String MESSAGE_SUCCESS = "Successfully generated a degree plan by adding %1$s modular credits"
+            + " to the degree plan:\n%2$s";
+    public static final String MESSAGE_ALREADY_FULFILLED = "The degree plan already fulfils every requirement category"
+            + " with %1$s to %2$s modular credits per semester.";
+    public static final String MESSAGE_NO_PLAN_FOUND = "Could not generate a degree plan that fulfils every requirement"
+            + " category with %1$s to %2$s modular credits per semester.\n[Tip] Maybe you can add more modules to the"
+            + " requirement categories, or relax the credits per semester.";
+    public static final String MESSAGE_GENERATION_FAILED = "Could not generate a degree plan due to an unexpected"
+            + " error: %1$s";
+
+    /**
+     * Time within which the generated degree plan is expected to be found.
+     * Commands are executed on the UI thread, so the UI does not respond for up to this long while generating.
+     */
+    private static final long TIME_BUDGET_MILLIS = 500;
+
+    private final Credits minCredits;
+    private final Credits maxCredits;
+
+    /**
+     * Creates a PlannerGenerateCommand to generate a degree plan with {@code minCredits} to {@code maxCredits}
+     * credits per semester.
+     */
+    public PlannerGenerateCommand(Credits minCredits, Credits maxCredits) {
+        requireAllNonNull(minCredits, maxCredits);
+
+        this.minCredits = minCredits;
+        this.maxCredits = maxCredits;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        DegreePlanGenerator generator = new DegreePlanGenerator(model.getApplication(),
+                minCredits.intValue(), maxCredits.intValue());
+        Optional<List<DegreePlanner>> generatedDegreePlanners;
+        try {
+            generatedDegreePlanners = generator.generate(TIME_BUDGET_MILLIS);
+        } catch (DegreePlanGenerationException dpge) {
+            throw new CommandException(String.format(MESSAGE_GENERATION_FAILED, dpge.getCause()), dpge);
+        }
+        if (!generatedDegreePlanners.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_NO_PLAN_FOUND, minCredits, maxCredits));
+        }
+
+        // Pairs each section of the degree plan with its generated counterpart, which are in the same order.
+        List<DegreePlanner> degreePlanners = new ArrayList<>(model.getApplication().getDegreePlannerList());
+        degreePlanners.sort(DegreePlanner::compareTo);
+        List<DegreePlanner> degreePlannersToEdit = new ArrayList<>();
+        List<DegreePlanner> editedDegreePlanners = new ArrayList<>();
+        List<DegreePlanner> addedPlanners = new ArrayList<>();
+        int addedCredits = 0;
+        for (int i = 0; i < degreePlanners.size(); i++) {
+            DegreePlanner degreePlanner = degreePlanners.get(i);
+            DegreePlanner generatedDegreePlanner = generatedDegreePlanners.get().get(i);
+            Set<Code> codesAdded = new HashSet<>(generatedDegreePlanner.getCodes());
+            codesAdded.removeAll(degreePlanner.getCodes());
+            if (codesAdded.isEmpty()) {
+                continue;
+            }
+
+            degreePlannersToEdit.add(degreePlanner);
+            editedDegreePlanners.add(generatedDegreePlanner);
+            // Records the codes added to the section of the degree plan for feedback to users.
+            addedPlanners.add(new DegreePlanner(degreePlanner.getYear(), degreePlanner.getSemester(), codesAdded));
+            addedCredits += Credits.sum(codesAdded, model::getModuleByCode);
+        }
+
+        if (degreePlannersToEdit.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_ALREADY_FULFILLED, minCredits, maxCredits));
+        }
+
+        model.applyBatch(() -> {
+            for (int i = 0; i < degreePlannersToEdit.size(); i++) {
+                model.setDegreePlanner(degreePlannersToEdit.get(i), editedDegreePlanners.get(i));
+            }
+        });
+        model.commitApplication();
+
+        String addedPlannersString = StringUtil.joinStreamAsString(addedPlanners.stream(), "\n");
+        return new CommandResult(String.format(MESSAGE_SUCCESS, addedCredits, addedPlannersString));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PlannerGenerateCommand // instanceof handles nulls
+                && minCredits.equals(((PlannerGenerateCommand) other).minCredits)
+                && maxCredits.equals(((PlannerGenerateCommand) other).maxCredits));
+    }
+}
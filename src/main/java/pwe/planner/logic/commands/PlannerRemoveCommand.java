@@ -3,11 +3,12 @@ package pwe.planner.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
@@ -52,9 +53,8 @@ public class PlannerRemoveCommand extends Command {
         requireNonNull(model);
 
         // Returns codes that the user wants to remove but are non-existent in the degree plan.
-        Set<Code> nonExistentPlannerCodes = codesToRemove.stream().filter(codeToCheck -> model.getApplication()
-                .getDegreePlannerList().stream().map(DegreePlanner::getCodes)
-                .noneMatch(selectedPlannerCodes -> selectedPlannerCodes.contains(codeToCheck)))
+        Set<Code> nonExistentPlannerCodes = codesToRemove.stream()
+                .filter(codeToCheck -> model.getDegreePlannerByCode(codeToCheck) == null)
                 .collect(Collectors.toSet());
         if (!nonExistentPlannerCodes.isEmpty()) {
             // Converts the set to a string to remove the square brackets.
@@ -63,31 +63,37 @@ public class PlannerRemoveCommand extends Command {
         }
 
         Set<Code> coreqsRemoved = new HashSet<>();
-        Set<Code> coreqsOfCodesToRemove = new HashSet<>();
-
-        ObservableList<DegreePlanner> degreePlannerList = model.getApplication().getDegreePlannerList();
-        for (DegreePlanner degreePlanner : degreePlannerList) {
-            Set<Code> selectedCodeSet = new HashSet<>(degreePlanner.getCodes());
-            // Adds co-requisites of codes to remove to a set.
-            codesToRemove.stream().map(model::getModuleByCode).map(Module::getCorequisites)
-                    .forEach(coreqsOfCodesToRemove::addAll);
-            // Returns relevant codes that are not just co-requisites to the code to remove, but are also existing
-            // in the selected section of the degree plan.
-            coreqsOfCodesToRemove.retainAll(selectedCodeSet);
-
-            // Removes the relevant co-requisites.
-            selectedCodeSet.removeAll(coreqsOfCodesToRemove);
-            // Removes the codes to remove.
-            selectedCodeSet.removeAll(codesToRemove);
-            // Updates the selected section of the degree plan.
-            DegreePlanner editedDegreePlanner = new DegreePlanner(degreePlanner.getYear(),
-                    degreePlanner.getSemester(), selectedCodeSet);
-            model.setDegreePlanner(degreePlanner, editedDegreePlanner);
-
-            // Combines the removed co-requisites together into a set for feedback to user.
-            coreqsRemoved.addAll(coreqsOfCodesToRemove);
+        Set<Code> codesAndCoreqsToRemove = new HashSet<>(codesToRemove);
+        // Adds co-requisites of codes to remove to a set.
+        codesToRemove.stream().map(model::getModuleByCode).map(Module::getCorequisites)
+                .forEach(codesAndCoreqsToRemove::addAll);
+
+        // Groups the codes to remove by the section of the degree plan holding them, so that each section of the
+        // degree plan is only updated once.
+        Map<DegreePlanner, Set<Code>> codesToRemoveByDegreePlanner = new HashMap<>();
+        for (Code codeToRemove : codesAndCoreqsToRemove) {
+            DegreePlanner degreePlanner = model.getDegreePlannerByCode(codeToRemove);
+            if (degreePlanner != null) {
+                codesToRemoveByDegreePlanner.computeIfAbsent(degreePlanner, unused -> new HashSet<>())
+                        .add(codeToRemove);
+            }
         }
 
+        model.applyBatch(() -> {
+            for (Map.Entry<DegreePlanner, Set<Code>> entry : codesToRemoveByDegreePlanner.entrySet()) {
+                DegreePlanner degreePlanner = entry.getKey();
+                Set<Code> selectedCodeSet = new HashSet<>(degreePlanner.getCodes());
+                selectedCodeSet.removeAll(entry.getValue());
+                // Updates the selected section of the degree plan.
+                DegreePlanner editedDegreePlanner = new DegreePlanner(degreePlanner.getYear(),
+                        degreePlanner.getSemester(), selectedCodeSet);
+                model.setDegreePlanner(degreePlanner, editedDegreePlanner);
+
+                // Combines the removed co-requisites together into a set for feedback to user.
+                coreqsRemoved.addAll(entry.getValue());
+            }
+        });
+
         coreqsRemoved.removeAll(codesToRemove);
         model.commitApplication();
 
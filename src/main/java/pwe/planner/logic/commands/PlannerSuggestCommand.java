@@ -1,25 +1,27 @@
 package pwe.planner.logic.commands;
 
-import static java.lang.Math.abs;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
-import javafx.collections.ObservableList;
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.CommandHistory;
 import pwe.planner.model.Model;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Credits;
-import pwe.planner.model.module.Module;
-import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.suggestion.SuggestionFeatures;
+import pwe.planner.model.suggestion.SuggestionScorer;
+import pwe.planner.model.suggestion.WeightedSuggestionScorer;
 import pwe.planner.model.tag.Tag;
 
 /**
@@ -43,74 +45,72 @@ public class PlannerSuggestCommand extends Command {
             + " tags: %2$s\nModule(s) with matching credits: %3$s";
     private static final int MAX_NUMBER_OF_ELEMENETS = 10;
     private static final int VALUE_OF_NO_DIFFERENCE = 0;
+    private static final int DEFAULT_PARTITION_SIZE = 4096;
 
     private Credits creditsToFind;
     private Set<Tag> tagsToFind;
+    private final SuggestionScorer scorer;
+    private final int partitionSize;
 
     /**
      * Creates a PlannerSuggestCommand to suggest {@code codes} to take.
      */
     public PlannerSuggestCommand(Credits bestCredits, Set<Tag> tags) {
-        requireAllNonNull(bestCredits, tags);
+        this(bestCredits, tags, WeightedSuggestionScorer.DEFAULT);
+    }
+
+    /**
+     * Creates a PlannerSuggestCommand to suggest {@code codes} to take, ranked by {@code scorer}.
+     */
+    public PlannerSuggestCommand(Credits bestCredits, Set<Tag> tags, SuggestionScorer scorer) {
+        this(bestCredits, tags, scorer, DEFAULT_PARTITION_SIZE);
+    }
+
+    /**
+     * Creates a PlannerSuggestCommand to suggest {@code codes} to take, ranked by {@code scorer}, which ranks the
+     * modules in parallel once there are more than {@code partitionSize} modules.
+     */
+    PlannerSuggestCommand(Credits bestCredits, Set<Tag> tags, SuggestionScorer scorer, int partitionSize) {
+        requireAllNonNull(bestCredits, tags, scorer);
+        assert partitionSize > 0;
 
         creditsToFind = bestCredits;
         tagsToFind = tags;
+        this.scorer = scorer;
+        this.partitionSize = partitionSize;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
 
-        Set<Code> plannerCodes = new HashSet<>();
-        // Adds all the codes in the degree plan to a set.
-        model.getApplication().getDegreePlannerList()
-                .stream().map(DegreePlanner::getCodes).forEach(plannerCodes::addAll);
-
-        ObservableList<Module> moduleList = model.getApplication().getModuleList();
-        List<ModuleToSuggest> modulesToSuggest = new ArrayList<>();
-        List<ModuleToSuggest> modulesWithMatchingTags = new ArrayList<>();
-        List<ModuleToSuggest> modulesWithMatchingCredits = new ArrayList<>();
-        for (Module module : moduleList) {
-            // Finds the matching tags for each module.
-            Set<Tag> matchingTags = new HashSet<>(tagsToFind);
-            matchingTags.retainAll(module.getTags());
-
-            // Finds the credits difference.
-            int credit = Integer.valueOf((module.getCredits().toString()));
-            int bestCredits = Integer.valueOf(creditsToFind.toString());
-            int creditDifference = abs(credit - bestCredits);
-
-            ModuleToSuggest moduleToSuggest =
-                    new ModuleToSuggest(creditDifference, matchingTags.size(), module.getCode());
-            modulesToSuggest.add(moduleToSuggest);
-
-            if (!matchingTags.isEmpty()) {
-                modulesWithMatchingTags.add(moduleToSuggest);
-            }
+        // The features of the modules that are not in the degree plan are cached by the model, so only the scores
+        // are computed again if the same credits and tags are suggested with a different scorer.
+        SuggestionFeatures[] features =
+                model.getSuggestionFeatures(creditsToFind, tagsToFind).toArray(new SuggestionFeatures[0]);
 
-            if (creditDifference == VALUE_OF_NO_DIFFERENCE) {
-                modulesWithMatchingCredits.add(moduleToSuggest);
-            }
-        }
+        // Ranks the modules on this thread, or in partitions on the common pool if there are many modules.
+        RankingTask rankingTask = new RankingTask(features, 0, features.length);
+        PriorityQueue<ModuleToSuggest> topModulesToSuggest = features.length <= partitionSize
+                ? rankingTask.compute()
+                : ForkJoinPool.commonPool().invoke(rankingTask);
 
-        // Returns a sorted list of codes to suggest based on both credits and tags.
-        List<Code> codesToSuggest = modulesToSuggest.stream().sorted().map(ModuleToSuggest::getModuleCode)
-                .filter(code -> !plannerCodes.contains(code)).limit(MAX_NUMBER_OF_ELEMENETS)
-                    .collect(Collectors.toList());
+        // Returns a sorted list of modules to suggest based on their scores.
+        List<ModuleToSuggest> modulesToSuggest = new ArrayList<>(topModulesToSuggest);
+        Collections.sort(modulesToSuggest);
         // Converts the list to a string to remove the brackets of list.
-        String suggestionString = StringUtil.joinStreamAsString(codesToSuggest.stream());
+        String suggestionString = StringUtil.joinStreamAsString(
+                modulesToSuggest.stream().map(ModuleToSuggest::getModuleCode));
 
         // Returns a sorted list of codes with matching tags in the recommendation list.
-        List<Code> codesWithMatchingTags = modulesWithMatchingTags.stream().sorted().map(ModuleToSuggest::getModuleCode)
-                .filter(code -> !plannerCodes.contains(code) && codesToSuggest.contains(code))
-                    .collect(Collectors.toList());
-        String matchingTagCodeString = StringUtil.joinStreamAsString(codesWithMatchingTags.stream());
+        String matchingTagCodeString = StringUtil.joinStreamAsString(modulesToSuggest.stream()
+                .filter(moduleToSuggest -> moduleToSuggest.getNumberOfMatchingTags() > 0)
+                .map(ModuleToSuggest::getModuleCode));
 
         // Returns a sorted list of codes with matching credits in the recommendation list.
-        List<Code> codesWithMatchingCredits = modulesWithMatchingCredits.stream().sorted()
-                .map(ModuleToSuggest::getModuleCode).filter(code -> !plannerCodes.contains(code) && codesToSuggest
-                        .contains(code)).collect(Collectors.toList());
-        String matchingCreditCodeString = StringUtil.joinStreamAsString(codesWithMatchingCredits.stream());
+        String matchingCreditCodeString = StringUtil.joinStreamAsString(modulesToSuggest.stream()
+                .filter(moduleToSuggest -> moduleToSuggest.getCreditDifference() == VALUE_OF_NO_DIFFERENCE)
+                .map(ModuleToSuggest::getModuleCode));
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, suggestionString, matchingTagCodeString,
                 matchingCreditCodeString));
@@ -121,50 +121,110 @@ public class PlannerSuggestCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof PlannerSuggestCommand // instanceof handles nulls
                 && tagsToFind.equals(((PlannerSuggestCommand) other).tagsToFind)
-                && creditsToFind.equals(((PlannerSuggestCommand) other).creditsToFind));
+                && creditsToFind.equals(((PlannerSuggestCommand) other).creditsToFind)
+                && scorer.equals(((PlannerSuggestCommand) other).scorer));
+    }
+
+    /**
+     * Offers {@code moduleToSuggest} to {@code topModulesToSuggest}, which keeps the most recommended modules offered
+     * so far with the least recommended of them at its head.
+     */
+    private static void offer(PriorityQueue<ModuleToSuggest> topModulesToSuggest, ModuleToSuggest moduleToSuggest) {
+        if (topModulesToSuggest.size() < MAX_NUMBER_OF_ELEMENETS) {
+            topModulesToSuggest.add(moduleToSuggest);
+        } else if (moduleToSuggest.compareTo(topModulesToSuggest.peek()) < 0) {
+            topModulesToSuggest.poll();
+            topModulesToSuggest.add(moduleToSuggest);
+        }
+    }
+
+    /**
+     * Finds the most recommended modules in a range of an array of module features.
+     * Ranges with more than {@code partitionSize} modules are split in half and ranked in parallel. As the modules to
+     * suggest are totally ordered, merging the most recommended modules of each half gives the same modules as ranking
+     * the whole range sequentially.
+     */
+    private class RankingTask extends RecursiveTask<PriorityQueue<ModuleToSuggest>> {
+        private final SuggestionFeatures[] features;
+        private final int from;
+        private final int to;
+
+        RankingTask(SuggestionFeatures[] features, int from, int to) {
+            this.features = features;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected PriorityQueue<ModuleToSuggest> compute() {
+            if (to - from <= partitionSize) {
+                return rank();
+            }
+
+            int middle = (from + to) >>> 1;
+            RankingTask left = new RankingTask(features, from, middle);
+            RankingTask right = new RankingTask(features, middle, to);
+            left.fork();
+            PriorityQueue<ModuleToSuggest> topOfRight = right.compute();
+            PriorityQueue<ModuleToSuggest> topOfLeft = left.join();
+            for (ModuleToSuggest moduleToSuggest : topOfRight) {
+                offer(topOfLeft, moduleToSuggest);
+            }
+            return topOfLeft;
+        }
+
+        /**
+         * Ranks the modules in the range sequentially.
+         */
+        private PriorityQueue<ModuleToSuggest> rank() {
+            PriorityQueue<ModuleToSuggest> topModulesToSuggest =
+                    new PriorityQueue<>(MAX_NUMBER_OF_ELEMENETS + 1, Comparator.reverseOrder());
+            for (int i = from; i < to; i++) {
+                offer(topModulesToSuggest, new ModuleToSuggest(features[i], scorer.score(features[i])));
+            }
+            return topModulesToSuggest;
+        }
     }
 
     /**
      * Creates a ModuleToSuggest object for sorting.
      */
     public class ModuleToSuggest implements Comparable<ModuleToSuggest> {
-        private int creditDifference;
-        private int numberOfMatchingTags;
-        private Code moduleCode;
-
-        public ModuleToSuggest(int creditDifference, int numberOfMatchingTags, Code moduleCode) {
-            this.creditDifference = creditDifference;
-            this.numberOfMatchingTags = numberOfMatchingTags;
-            this.moduleCode = moduleCode;
+        private final SuggestionFeatures features;
+        private final long score;
+
+        public ModuleToSuggest(SuggestionFeatures features, long score) {
+            this.features = features;
+            this.score = score;
         }
 
         public int getCreditDifference() {
-            return creditDifference;
+            return features.getCreditDifference();
         }
 
         public int getNumberOfMatchingTags() {
-            return numberOfMatchingTags;
+            return features.getNumberOfMatchingTags();
         }
 
         public Code getModuleCode() {
-            return moduleCode;
+            return features.getCode();
+        }
+
+        public long getScore() {
+            return score;
         }
 
         /**
          * @param moduleToCompare A valid module to suggest
-         * @return number of matching tags difference between two modules to suggest, or
-         * credit difference between two modules if tie. If both tie, sort according to
+         * @return score difference between two modules to suggest. If both tie, sort according to
          * alphabetical order.
          */
         @Override
         public int compareTo(ModuleToSuggest moduleToCompare) {
-            if (this.getNumberOfMatchingTags() == moduleToCompare.getNumberOfMatchingTags()
-                && this.getCreditDifference() == moduleToCompare.getCreditDifference()) {
+            if (this.getScore() == moduleToCompare.getScore()) {
                 return this.getModuleCode().compareTo(moduleToCompare.getModuleCode());
-            } else if (this.getNumberOfMatchingTags() == moduleToCompare.getNumberOfMatchingTags()) {
-                return this.getCreditDifference() - moduleToCompare.getCreditDifference();
             }
-            return moduleToCompare.getNumberOfMatchingTags() - this.getNumberOfMatchingTags();
+            return Long.compare(moduleToCompare.getScore(), this.getScore());
         }
     }
 }
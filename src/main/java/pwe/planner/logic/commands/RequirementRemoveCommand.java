@@ -8,7 +8,6 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
 import pwe.planner.commons.util.StringUtil;
 import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
@@ -63,8 +62,6 @@ public class RequirementRemoveCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        ObservableList<RequirementCategory> requirementCategories = model.getApplication().getRequirementCategoryList();
-
         List<Code> nonExistentCodes = toRemove.stream().filter(code -> !model.hasModuleCode(code))
                 .collect(Collectors.toList());
 
@@ -74,9 +71,8 @@ public class RequirementRemoveCommand extends Command {
             throw new CommandException(String.format(MESSAGE_NONEXISTENT_CODE, nonExistentCodesErrorMessage));
         }
 
-        List<Code> codeNotInAnyRequirementCategory = toRemove.stream().filter(code -> requirementCategories.stream()
-                .noneMatch(requirementCategory -> requirementCategory.getCodeSet()
-                        .contains(code))).collect(Collectors.toList());
+        List<Code> codeNotInAnyRequirementCategory = toRemove.stream()
+                .filter(code -> model.getRequirementCategoryByCode(code) == null).collect(Collectors.toList());
 
         if (!codeNotInAnyRequirementCategory.isEmpty()) {
             String codeNotInAnyRequirementCategoryErrorMessage =
@@ -85,10 +81,26 @@ public class RequirementRemoveCommand extends Command {
                     codeNotInAnyRequirementCategoryErrorMessage));
         }
 
-        RequirementCategory singleSourceRequirementCategory = requirementCategories.stream()
-                .filter(requirementCategory -> requirementCategory.getCodeSet()
-                        .containsAll(toRemove)).findFirst().orElse(null);
+        Set<RequirementCategory> sourceRequirementCategories = toRemove.stream()
+                .map(model::getRequirementCategoryByCode).collect(Collectors.toSet());
+        RequirementCategory singleSourceRequirementCategory = sourceRequirementCategories.size() == 1
+                ? sourceRequirementCategories.iterator().next()
+                : null;
+
+        model.applyBatch(() -> removeCodes(model, singleSourceRequirementCategory));
+
+        String codesMoved = StringUtil.joinStreamAsString(toRemove.stream().sorted());
+
+        model.commitApplication();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, codesMoved));
+    }
 
+    /**
+     * Removes the codes in {@code toRemove} from their requirement categories.
+     * {@code singleSourceRequirementCategory} is the requirement category holding all the codes, or null if the codes
+     * are held by more than one requirement category.
+     */
+    private void removeCodes(Model model, RequirementCategory singleSourceRequirementCategory) {
         //If all codes to be removed is from a requirement category only, all the codes can be removed together
         if (singleSourceRequirementCategory != null) {
             Set<Code> newCodeSet = new HashSet<>(singleSourceRequirementCategory.getCodeSet());
@@ -102,8 +114,7 @@ public class RequirementRemoveCommand extends Command {
         } else {
             //If all codes to be removed are from multiple requirement category, have to remove the codes individually
             for (Code code : toRemove) {
-                RequirementCategory sourceRequirementCategory = requirementCategories.stream()
-                        .filter(reqCat -> reqCat.getCodeSet().contains(code)).findFirst().orElse(null);
+                RequirementCategory sourceRequirementCategory = model.getRequirementCategoryByCode(code);
 
                 Set<Code> newCodeSet = new HashSet<>(sourceRequirementCategory.getCodeSet());
                 newCodeSet.remove(code);
@@ -115,11 +126,6 @@ public class RequirementRemoveCommand extends Command {
 
             }
         }
-
-        String codesMoved = StringUtil.joinStreamAsString(toRemove.stream().sorted());
-
-        model.commitApplication();
-        return new CommandResult(String.format(MESSAGE_SUCCESS, codesMoved));
     }
 
     @Override
@@ -15,17 +15,32 @@ public class UndoCommand extends Command {
     public static final String COMMAND_WORD = "undo";
     public static final String MESSAGE_SUCCESS = "Undo success!";
     public static final String MESSAGE_FAILURE = "No more commands to undo!";
+    public static final String MESSAGE_HISTORY_TRUNCATED = "Older commands can no longer be undone, as they were "
+            + "removed from the undo history to limit its memory usage.";
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
         if (!model.canUndoApplication()) {
-            throw new CommandException(MESSAGE_FAILURE);
+            throw new CommandException(withTruncationNotice(model, MESSAGE_FAILURE));
         }
 
         model.undoApplication();
         model.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (model.canUndoApplication()) {
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+        return new CommandResult(withTruncationNotice(model, MESSAGE_SUCCESS));
+    }
+
+    /**
+     * Returns {@code message}, followed by a notice if the undo history of {@code model} has been truncated.
+     */
+    private static String withTruncationNotice(Model model, String message) {
+        if (!model.isApplicationHistoryTruncated()) {
+            return message;
+        }
+        return message + " " + MESSAGE_HISTORY_TRUNCATED;
     }
 }
@@ -21,10 +21,12 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 
+import pwe.planner.commons.util.LruCache;
 import pwe.planner.logic.parser.exceptions.BooleanParserException;
 import pwe.planner.logic.parser.exceptions.BooleanParserPredicateException;
 import pwe.planner.logic.parser.exceptions.ParseException;
 import pwe.planner.model.module.CodeContainsKeywordsPredicate;
+import pwe.planner.model.module.CompositeKeywordsPredicate;
 import pwe.planner.model.module.CreditsContainsKeywordsPredicate;
 import pwe.planner.model.module.KeywordsPredicate;
 import pwe.planner.model.module.NameContainsKeywordsPredicate;
@@ -52,17 +54,32 @@ public class BooleanExpressionParser<T> {
             + MESSAGE_TIP;
 
     private static final String WHITESPACE = " ";
+    private static final int COMPILED_EXPRESSION_CACHE_CAPACITY = 64;
+
+    /**
+     * Predicates compiled from recently parsed expressions, keyed on the type of the elements tested, the accepted
+     * prefixes and the normalized expression. Compiled predicates are immutable, so they can be shared by every
+     * command parsing the same expression, and the cache is synchronized, so it can be shared between threads.
+     */
+    private static final LruCache<List<Object>, KeywordsPredicate<?>> compiledExpressions =
+            new LruCache<>(COMPILED_EXPRESSION_CACHE_CAPACITY);
 
     private List<Prefix> prefixes;
     private String stringToTokenize;
+    private Class<T> elementType;
 
-    public BooleanExpressionParser(String stringToTokenize, List<Prefix> prefixes) {
-        requireAllNonNull(stringToTokenize, prefixes);
+    /**
+     * Creates a parser of {@code stringToTokenize} into a predicate that tests elements of type {@code elementType}.
+     */
+    public BooleanExpressionParser(String stringToTokenize, List<Prefix> prefixes, Class<T> elementType) {
+        requireAllNonNull(stringToTokenize, prefixes, elementType);
         this.stringToTokenize = stringToTokenize;
         this.prefixes = prefixes;
+        this.elementType = elementType;
     }
 
-    private Predicate<T> getKeywordsPredicate(String args) throws BooleanParserPredicateException, ParseException {
+    private KeywordsPredicate<T> getKeywordsPredicate(String args)
+            throws BooleanParserPredicateException, ParseException {
         assert args != null;
 
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, prefixes.toArray(new Prefix[0]));
@@ -99,15 +116,15 @@ public class BooleanExpressionParser<T> {
      * @param predicate2
      * @return a composite predicate
      */
-    private Predicate<T> applyOperator(Operator operator, Predicate<T> predicate1,
-                                       Predicate<T> predicate2) throws BooleanParserException {
+    private KeywordsPredicate<T> applyOperator(Operator operator, KeywordsPredicate<T> predicate1,
+                                               KeywordsPredicate<T> predicate2) throws BooleanParserException {
         requireAllNonNull(operator, predicate1, predicate2);
 
         switch (operator) {
         case OR:
-            return predicate1.or(predicate2);
+            return CompositeKeywordsPredicate.or(predicate1, predicate2);
         case AND:
-            return predicate1.and(predicate2);
+            return CompositeKeywordsPredicate.and(predicate1, predicate2);
         default:
             throw new BooleanParserException(String.format(MESSAGE_INVALID_EXPRESSION, MESSAGE_INVALID_OPERATOR));
         }
@@ -115,15 +132,33 @@ public class BooleanExpressionParser<T> {
 
     /**
      * Parse input argument into a composite predicate.
-     * This parse method make use of the shunting yard algorithm to convert in-fix to post fix then evaluate
-     * the expression.
+     * The predicate compiled from an expression is cached, so that parsing a recently parsed expression again
+     * returns the same predicate without tokenizing the expression again.
      *
      * @return a composite predicate
      */
+    @SuppressWarnings("unchecked") // the cache key includes the element type, so the cached predicate tests T
     public Predicate<T> parse() throws BooleanParserException, ParseException {
+        List<Object> cacheKey = List.of(elementType, prefixes, stringToTokenize.trim());
+        KeywordsPredicate<T> predicate = (KeywordsPredicate<T>) compiledExpressions.get(cacheKey);
+        if (predicate == null) {
+            predicate = compile();
+            compiledExpressions.put(cacheKey, predicate);
+        }
+        return predicate;
+    }
+
+    /**
+     * Compiles input argument into a composite predicate.
+     * This method make use of the shunting yard algorithm to convert in-fix to post fix then evaluate
+     * the expression.
+     *
+     * @return a composite predicate
+     */
+    private KeywordsPredicate<T> compile() throws BooleanParserException, ParseException {
         BooleanExpressionTokenizer tokenizer = new BooleanExpressionTokenizer(stringToTokenize, prefixes);
 
-        Deque<Predicate<T>> output = new ArrayDeque<>();
+        Deque<KeywordsPredicate<T>> output = new ArrayDeque<>();
         Deque<Operator> operatorStack = new ArrayDeque<>();
 
         try {
@@ -161,7 +196,7 @@ public class BooleanExpressionParser<T> {
                     // as ArgumentMultimap require a whitespace before the args
                     // we will have to add a whitespace before our args without changing the code
                     // of ArgumentMultimap.
-                    Predicate<T> in = getKeywordsPredicate(WHITESPACE + currentToken);
+                    KeywordsPredicate<T> in = getKeywordsPredicate(WHITESPACE + currentToken);
                     output.push(in);
                     isNotExpectingLeftBracket = false;
                     break;
@@ -15,6 +15,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_COREQUISITE = new Prefix("coreq/");
     public static final Prefix PREFIX_YEAR = new Prefix("year/");
     public static final Prefix PREFIX_SEMESTER = new Prefix("sem/");
+    public static final Prefix PREFIX_MIN_CREDITS = new Prefix("min/");
+    public static final Prefix PREFIX_MAX_CREDITS = new Prefix("max/");
 
     public static final String OPERATOR_OR = "||";
     public static final String OPERATOR_AND = "&&";
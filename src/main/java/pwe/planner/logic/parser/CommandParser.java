@@ -18,6 +18,8 @@ import pwe.planner.logic.commands.HelpCommand;
 import pwe.planner.logic.commands.HistoryCommand;
 import pwe.planner.logic.commands.ListCommand;
 import pwe.planner.logic.commands.PlannerAddCommand;
+import pwe.planner.logic.commands.PlannerBalanceCommand;
+import pwe.planner.logic.commands.PlannerGenerateCommand;
 import pwe.planner.logic.commands.PlannerListCommand;
 import pwe.planner.logic.commands.PlannerMoveCommand;
 import pwe.planner.logic.commands.PlannerRemoveCommand;
@@ -131,6 +133,12 @@ public class CommandParser {
         case PlannerRemoveCommand.COMMAND_WORD:
             return new PlannerRemoveCommandParser().parse(arguments);
 
+        case PlannerGenerateCommand.COMMAND_WORD:
+            return new PlannerGenerateCommandParser().parse(arguments);
+
+        case PlannerBalanceCommand.COMMAND_WORD:
+            return new PlannerBalanceCommand();
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
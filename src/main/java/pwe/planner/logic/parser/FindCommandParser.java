@@ -47,7 +47,8 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
         }
         try {
-            BooleanExpressionParser<Module> expressionParser = new BooleanExpressionParser<>(args, PREFIXES);
+            BooleanExpressionParser<Module> expressionParser =
+                    new BooleanExpressionParser<>(args, PREFIXES, Module.class);
             Predicate<Module> predicate = expressionParser.parse();
             return new FindCommand(predicate);
         } catch (BooleanParserPredicateException predicateException) {
@@ -0,0 +1,44 @@
+package pwe.planner.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_MAX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_MIN_CREDITS;
+import static pwe.planner.logic.parser.ParserUtil.parseCredits;
+
+import pwe.planner.logic.commands.PlannerGenerateCommand;
+import pwe.planner.logic.parser.exceptions.ParseException;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.planner.DegreePlanGenerator;
+
+/**
+ * Parses input arguments and creates a new PlannerGenerateCommand object.
+ */
+public class PlannerGenerateCommandParser implements Parser<PlannerGenerateCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PlannerGenerateCommand
+     * and returns an PlannerGenerateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public PlannerGenerateCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MIN_CREDITS, PREFIX_MAX_CREDITS);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(
+                    MESSAGE_INVALID_COMMAND_FORMAT, PlannerGenerateCommand.MESSAGE_USAGE));
+        }
+
+        Credits minCredits = parseCredits(argMultimap.getValue(PREFIX_MIN_CREDITS)
+                .orElse(PlannerGenerateCommand.DEFAULT_MIN_CREDITS));
+        Credits maxCredits = parseCredits(argMultimap.getValue(PREFIX_MAX_CREDITS)
+                .orElse(PlannerGenerateCommand.DEFAULT_MAX_CREDITS));
+        if (minCredits.intValue() > maxCredits.intValue()) {
+            throw new ParseException(DegreePlanGenerator.MESSAGE_CONSTRAINTS);
+        }
+
+        return new PlannerGenerateCommand(minCredits, maxCredits);
+    }
+}
@@ -44,7 +44,8 @@ public class PlannerShowCommandParser implements Parser<PlannerShowCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PlannerShowCommand.MESSAGE_USAGE));
         }
         try {
-            BooleanExpressionParser<DegreePlanner> expressionParser = new BooleanExpressionParser<>(args, PREFIXES);
+            BooleanExpressionParser<DegreePlanner> expressionParser =
+                    new BooleanExpressionParser<>(args, PREFIXES, DegreePlanner.class);
             Predicate<DegreePlanner> predicate = expressionParser.parse();
             return new PlannerShowCommand(predicate);
         } catch (BooleanParserPredicateException predicateException) {
@@ -14,6 +14,7 @@ import javafx.collections.ObservableList;
 import pwe.planner.commons.util.InvalidationListenerManager;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleKeywordIndex;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.module.UniqueModuleList;
 import pwe.planner.model.planner.DegreePlanner;
@@ -30,7 +31,10 @@ public class Application implements ReadOnlyApplication {
     private final UniqueModuleList modules;
     private final UniqueDegreePlannerList degreePlanners;
     private final UniqueRequirementCategoryList requirementCategories;
+    private final CreditAggregates creditAggregates = new CreditAggregates();
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private int batchDepth;
+    private boolean isModifiedInBatch;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -63,9 +67,11 @@ public class Application implements ReadOnlyApplication {
     public void resetData(ReadOnlyApplication newData) {
         requireNonNull(newData);
 
-        setModules(newData.getModuleList());
-        setDegreePlanners(newData.getDegreePlannerList());
-        setRequirementCategories(newData.getRequirementCategoryList());
+        applyBatch(() -> {
+            setModules(newData.getModuleList());
+            setDegreePlanners(newData.getDegreePlannerList());
+            setRequirementCategories(newData.getRequirementCategoryList());
+        });
     }
 
     /**
@@ -100,7 +106,10 @@ public class Application implements ReadOnlyApplication {
     public void setModules(List<Module> modules) {
         requireNonNull(modules);
 
+        List<Module> replacedModules = new ArrayList<>(getModuleList());
         this.modules.setModules(modules);
+        replacedModules.forEach(creditAggregates::removeModule);
+        modules.forEach(creditAggregates::addModule);
         indicateModified();
     }
 
@@ -111,7 +120,10 @@ public class Application implements ReadOnlyApplication {
     public void setDegreePlanners(List<DegreePlanner> degreePlanners) {
         requireNonNull(degreePlanners);
 
+        List<DegreePlanner> replacedDegreePlanners = new ArrayList<>(getDegreePlannerList());
         this.degreePlanners.setDegreePlanners(degreePlanners);
+        replacedDegreePlanners.forEach(creditAggregates::removeDegreePlanner);
+        degreePlanners.forEach(creditAggregates::addDegreePlanner);
         indicateModified();
     }
 
@@ -122,7 +134,10 @@ public class Application implements ReadOnlyApplication {
     public void setRequirementCategories(List<RequirementCategory> requirementCategories) {
         requireNonNull(requirementCategories);
 
+        List<RequirementCategory> replacedRequirementCategories = new ArrayList<>(getRequirementCategoryList());
         this.requirementCategories.setRequirementCategories(requirementCategories);
+        replacedRequirementCategories.forEach(creditAggregates::removeRequirementCategory);
+        requirementCategories.forEach(creditAggregates::addRequirementCategory);
         indicateModified();
     }
 
@@ -146,13 +161,27 @@ public class Application implements ReadOnlyApplication {
         return modules.getModuleByCode(code);
     }
 
+    /**
+     * Returns the keyword index of the names and tags of the modules in the application.
+     */
+    public ModuleKeywordIndex getModuleKeywordIndex() {
+        return modules.getKeywordIndex();
+    }
+
+    /**
+     * Returns the total credits of the modules in each requirement category and degree planner of the application.
+     */
+    public CreditAggregates getCreditAggregates() {
+        return creditAggregates;
+    }
+
     /**
      * Returns true if a {@code Module} with the specified {@code Code} exists in the application.
      */
     public boolean hasModuleCode(Code code) {
         requireNonNull(code);
 
-        return modules.asUnmodifiableObservableList().stream().anyMatch((module) -> module.getCode().equals(code));
+        return modules.containsCode(code);
     }
 
     /**
@@ -163,6 +192,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(moduleToAdd);
 
         modules.add(moduleToAdd);
+        creditAggregates.addModule(moduleToAdd);
         indicateModified();
     }
 
@@ -175,6 +205,8 @@ public class Application implements ReadOnlyApplication {
         requireAllNonNull(target, editedModule);
 
         modules.setModule(target, editedModule);
+        creditAggregates.removeModule(target);
+        creditAggregates.addModule(editedModule);
     }
 
     /**
@@ -185,13 +217,15 @@ public class Application implements ReadOnlyApplication {
     public void editModule(Module target, Module editedModule) {
         requireAllNonNull(target, editedModule);
 
-        modules.setModule(target, editedModule);
-        if (!target.getCode().equals(editedModule.getCode())) {
-            cascadeEditedCodeInDegreePlanners(target.getCode(), editedModule.getCode());
-            cascadeEditedCodeInRequirementCategories(target.getCode(), editedModule.getCode());
-        }
+        applyBatch(() -> {
+            setModule(target, editedModule);
+            if (!target.getCode().equals(editedModule.getCode())) {
+                cascadeEditedCodeInDegreePlanners(target.getCode(), editedModule.getCode());
+                cascadeEditedCodeInRequirementCategories(target.getCode(), editedModule.getCode());
+            }
 
-        indicateModified();
+            indicateModified();
+        });
     }
 
     /**
@@ -202,23 +236,22 @@ public class Application implements ReadOnlyApplication {
     private void cascadeEditedCodeInDegreePlanners(Code codeToEdit, Code editedCode) {
         requireAllNonNull(codeToEdit, editedCode);
 
-        ObservableList<DegreePlanner> degreePlanners = getDegreePlannerList();
+        DegreePlanner degreePlanner = degreePlanners.getDegreePlannerByCode(codeToEdit);
+        if (degreePlanner == null) {
+            return;
+        }
 
-        for (DegreePlanner degreePlanner : degreePlanners) {
-            if (degreePlanner.getCodes().contains(codeToEdit)) {
-                Set<Code> editedDegreePlannerCodes = new HashSet<>(degreePlanner.getCodes());
-                editedDegreePlannerCodes.remove(codeToEdit);
-                editedDegreePlannerCodes.add(editedCode);
+        Set<Code> editedDegreePlannerCodes = new HashSet<>(degreePlanner.getCodes());
+        editedDegreePlannerCodes.remove(codeToEdit);
+        editedDegreePlannerCodes.add(editedCode);
 
-                DegreePlanner editedDegreePlanner = new DegreePlanner(
-                        degreePlanner.getYear(),
-                        degreePlanner.getSemester(),
-                        editedDegreePlannerCodes
-                );
+        DegreePlanner editedDegreePlanner = new DegreePlanner(
+                degreePlanner.getYear(),
+                degreePlanner.getSemester(),
+                editedDegreePlannerCodes
+        );
 
-                setDegreePlanner(degreePlanner, editedDegreePlanner);
-            }
-        }
+        setDegreePlanner(degreePlanner, editedDegreePlanner);
     }
 
     /**
@@ -229,23 +262,22 @@ public class Application implements ReadOnlyApplication {
     private void cascadeEditedCodeInRequirementCategories(Code codeToEdit, Code editedCode) {
         requireAllNonNull(codeToEdit, editedCode);
 
-        ObservableList<RequirementCategory> requirementCategories = getRequirementCategoryList();
-
-        for (RequirementCategory requirementCategory : requirementCategories) {
-            if (requirementCategory.getCodeSet().contains(codeToEdit)) {
-                Set<Code> editedCodes = new HashSet<>(requirementCategory.getCodeSet());
-                editedCodes.remove(codeToEdit);
-                editedCodes.add(editedCode);
-
-                RequirementCategory editedRequirementCategory = new RequirementCategory(
-                        requirementCategory.getName(),
-                        requirementCategory.getCredits(),
-                        editedCodes
-                );
-
-                setRequirementCategory(requirementCategory, editedRequirementCategory);
-            }
+        RequirementCategory requirementCategory = requirementCategories.getRequirementCategoryByCode(codeToEdit);
+        if (requirementCategory == null) {
+            return;
         }
+
+        Set<Code> editedCodes = new HashSet<>(requirementCategory.getCodeSet());
+        editedCodes.remove(codeToEdit);
+        editedCodes.add(editedCode);
+
+        RequirementCategory editedRequirementCategory = new RequirementCategory(
+                requirementCategory.getName(),
+                requirementCategory.getCredits(),
+                editedCodes
+        );
+
+        setRequirementCategory(requirementCategory, editedRequirementCategory);
     }
 
     /**
@@ -255,10 +287,13 @@ public class Application implements ReadOnlyApplication {
     public void removeModule(Module moduleToDelete) {
         requireNonNull(moduleToDelete);
 
-        modules.remove(moduleToDelete);
-        cascadeDeleteCodeToDegreePlanners(moduleToDelete.getCode());
-        cascadeDeleteCodeToRequirementCategories(moduleToDelete.getCode());
-        indicateModified();
+        applyBatch(() -> {
+            modules.remove(moduleToDelete);
+            creditAggregates.removeModule(moduleToDelete);
+            cascadeDeleteCodeToDegreePlanners(moduleToDelete.getCode());
+            cascadeDeleteCodeToRequirementCategories(moduleToDelete.getCode());
+            indicateModified();
+        });
     }
 
     /**
@@ -268,21 +303,21 @@ public class Application implements ReadOnlyApplication {
     private void cascadeDeleteCodeToDegreePlanners(Code codeToDelete) {
         assert codeToDelete != null;
 
-        ObservableList<DegreePlanner> degreePlanners = getDegreePlannerList();
-        for (DegreePlanner degreePlanner : degreePlanners) {
-            if (degreePlanner.getCodes().contains(codeToDelete)) {
-                Set<Code> editedCodes = new HashSet<>(degreePlanner.getCodes());
-                editedCodes.remove(codeToDelete);
+        DegreePlanner degreePlanner = degreePlanners.getDegreePlannerByCode(codeToDelete);
+        if (degreePlanner == null) {
+            return;
+        }
 
-                DegreePlanner editedDegreePlanner = new DegreePlanner(
-                        degreePlanner.getYear(),
-                        degreePlanner.getSemester(),
-                        editedCodes
-                );
+        Set<Code> editedCodes = new HashSet<>(degreePlanner.getCodes());
+        editedCodes.remove(codeToDelete);
 
-                setDegreePlanner(degreePlanner, editedDegreePlanner);
-            }
-        }
+        DegreePlanner editedDegreePlanner = new DegreePlanner(
+                degreePlanner.getYear(),
+                degreePlanner.getSemester(),
+                editedCodes
+        );
+
+        setDegreePlanner(degreePlanner, editedDegreePlanner);
     }
 
     /**
@@ -292,21 +327,21 @@ public class Application implements ReadOnlyApplication {
     private void cascadeDeleteCodeToRequirementCategories(Code codeToDelete) {
         assert codeToDelete != null;
 
-        ObservableList<RequirementCategory> requirementCategories = getRequirementCategoryList();
-        for (RequirementCategory requirementCategory : requirementCategories) {
-            if (requirementCategory.getCodeSet().contains(codeToDelete)) {
-                Set<Code> editedCodes = new HashSet<>(requirementCategory.getCodeSet());
-                editedCodes.remove(codeToDelete);
+        RequirementCategory requirementCategory = requirementCategories.getRequirementCategoryByCode(codeToDelete);
+        if (requirementCategory == null) {
+            return;
+        }
 
-                RequirementCategory editedRequirementCategory = new RequirementCategory(
-                        requirementCategory.getName(),
-                        requirementCategory.getCredits(),
-                        editedCodes
-                );
+        Set<Code> editedCodes = new HashSet<>(requirementCategory.getCodeSet());
+        editedCodes.remove(codeToDelete);
 
-                setRequirementCategory(requirementCategory, editedRequirementCategory);
-            }
-        }
+        RequirementCategory editedRequirementCategory = new RequirementCategory(
+                requirementCategory.getName(),
+                requirementCategory.getCredits(),
+                editedCodes
+        );
+
+        setRequirementCategory(requirementCategory, editedRequirementCategory);
     }
 
     //// planner-level operations
@@ -338,6 +373,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(degreePlanner);
 
         degreePlanners.add(degreePlanner);
+        creditAggregates.addDegreePlanner(degreePlanner);
     }
 
     /**
@@ -350,6 +386,8 @@ public class Application implements ReadOnlyApplication {
         requireAllNonNull(target, editedDegreePlanner);
 
         degreePlanners.setDegreePlanner(target, editedDegreePlanner);
+        creditAggregates.removeDegreePlanner(target);
+        creditAggregates.addDegreePlanner(editedDegreePlanner);
     }
 
     /**
@@ -360,6 +398,13 @@ public class Application implements ReadOnlyApplication {
     public void moveModuleBetweenPlanner(DegreePlanner sourcePlanner, DegreePlanner destinationPlanner, Code code) {
         requireAllNonNull(sourcePlanner, destinationPlanner, code);
 
+        applyBatch(() -> moveCodesBetweenPlanner(destinationPlanner, code));
+    }
+
+    /**
+     * Moves the given module code {@code code} along with its corequisites to {@code destinationPlanner}.
+     */
+    private void moveCodesBetweenPlanner(DegreePlanner destinationPlanner, Code code) {
         Set<Code> codesToMove = new HashSet<>(modules.getModuleByCode(code).getCorequisites());
         codesToMove.add(code);
         Set<Code> editedDestinationPlannerCodes = new HashSet<>(destinationPlanner.getCodes());
@@ -395,6 +440,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(key);
 
         degreePlanners.remove(key);
+        creditAggregates.removeDegreePlanner(key);
     }
 
     //// requirement-level operations
@@ -429,6 +475,15 @@ public class Application implements ReadOnlyApplication {
         return requirementCategories.getRequirementCategory(requirementCategoryName);
     }
 
+    /**
+     * Returns the requirement category which contains the given {@code code}, otherwise returns null.
+     */
+    public RequirementCategory getRequirementCategoryByCode(Code code) {
+        requireNonNull(code);
+
+        return requirementCategories.getRequirementCategoryByCode(code);
+    }
+
     /**
      * Adds a requirement to the requirementCategoryList.
      * The requirement must not already exist in the requirementCategoryList.
@@ -437,6 +492,7 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(requirementCategory);
 
         requirementCategories.add(requirementCategory);
+        creditAggregates.addRequirementCategory(requirementCategory);
     }
 
     /**
@@ -450,6 +506,8 @@ public class Application implements ReadOnlyApplication {
         requireAllNonNull(target, editedRequirementCategory);
 
         requirementCategories.setRequirementCategory(target, editedRequirementCategory);
+        creditAggregates.removeRequirementCategory(target);
+        creditAggregates.addRequirementCategory(editedRequirementCategory);
     }
 
     /**
@@ -460,6 +518,49 @@ public class Application implements ReadOnlyApplication {
         requireNonNull(key);
 
         requirementCategories.remove(key);
+        creditAggregates.removeRequirementCategory(key);
+    }
+
+    //// batch operations
+
+    /**
+     * Applies the modifications made by {@code modifications} to this application as a single batch.
+     * Each list of this application publishes all of its modifications in the batch as a single change, and the
+     * listeners of this application are notified at most once, after all the modifications have been applied.
+     * Batches may be nested, in which case the modifications are only published when the outermost batch ends.
+     */
+    public void applyBatch(Runnable modifications) {
+        requireNonNull(modifications);
+
+        beginBatch();
+        try {
+            modifications.run();
+        } finally {
+            endBatch();
+        }
+    }
+
+    private void beginBatch() {
+        batchDepth++;
+        modules.beginBatch();
+        degreePlanners.beginBatch();
+        requirementCategories.beginBatch();
+    }
+
+    /**
+     * Ends a batch begun with {@code beginBatch()}.
+     * Listeners are notified if this application was modified within the batch and the batch is the outermost batch.
+     */
+    private void endBatch() {
+        modules.endBatch();
+        degreePlanners.endBatch();
+        requirementCategories.endBatch();
+        batchDepth--;
+
+        if (batchDepth == 0 && isModifiedInBatch) {
+            isModifiedInBatch = false;
+            indicateModified();
+        }
     }
 
     //// listener methods
@@ -480,11 +581,53 @@ public class Application implements ReadOnlyApplication {
 
     /**
      * Notifies listeners that the application has been modified.
+     * Within a batch, the listeners are only notified when the outermost batch ends.
      */
     protected void indicateModified() {
+        if (batchDepth > 0) {
+            isModifiedInBatch = true;
+            return;
+        }
+
         invalidationListenerManager.callListeners(this);
     }
 
+    //// range replacement operations
+
+    /**
+     * Replaces the modules from index {@code from} (inclusive) to index {@code to} (exclusive) with
+     * {@code replacement}, without cascading the change to the rest of the application.
+     */
+    protected void replaceModules(int from, int to, List<Module> replacement) {
+        List<Module> replacedModules = new ArrayList<>(getModuleList().subList(from, to));
+        modules.replaceRange(from, to, replacement);
+        replacedModules.forEach(creditAggregates::removeModule);
+        replacement.forEach(creditAggregates::addModule);
+    }
+
+    /**
+     * Replaces the degree planners from index {@code from} (inclusive) to index {@code to} (exclusive) with
+     * {@code replacement}.
+     */
+    protected void replaceDegreePlanners(int from, int to, List<DegreePlanner> replacement) {
+        List<DegreePlanner> replacedDegreePlanners = new ArrayList<>(getDegreePlannerList().subList(from, to));
+        degreePlanners.replaceRange(from, to, replacement);
+        replacedDegreePlanners.forEach(creditAggregates::removeDegreePlanner);
+        replacement.forEach(creditAggregates::addDegreePlanner);
+    }
+
+    /**
+     * Replaces the requirement categories from index {@code from} (inclusive) to index {@code to} (exclusive) with
+     * {@code replacement}.
+     */
+    protected void replaceRequirementCategories(int from, int to, List<RequirementCategory> replacement) {
+        List<RequirementCategory> replacedRequirementCategories =
+                new ArrayList<>(getRequirementCategoryList().subList(from, to));
+        requirementCategories.replaceRange(from, to, replacement);
+        replacedRequirementCategories.forEach(creditAggregates::removeRequirementCategory);
+        replacement.forEach(creditAggregates::addRequirementCategory);
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,127 @@
+package pwe.planner.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.Name;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * The total credits of the modules in each requirement category and in each degree planner of an application.
+ *
+ * The totals are maintained by {@link Application}, which updates them as modules, degree planners and requirement
+ * categories are added and removed, so that they are looked up instead of resolving the credits of every module in a
+ * requirement category or degree planner each time they are displayed.
+ */
+public class CreditAggregates {
+
+    private final Map<Code, Integer> moduleCredits = new HashMap<>();
+    private final Map<Code, Name> codeToRequirementCategory = new HashMap<>();
+    private final Map<Code, List<Object>> codeToDegreePlanner = new HashMap<>();
+    private final Map<Name, Integer> requirementCategoryCredits = new HashMap<>();
+    private final Map<List<Object>, Integer> degreePlannerCredits = new HashMap<>();
+
+    /**
+     * Returns the total credits of the modules in {@code requirementCategory}.
+     */
+    public int getFulfilledCredits(RequirementCategory requirementCategory) {
+        requireNonNull(requirementCategory);
+
+        return requirementCategoryCredits.getOrDefault(requirementCategory.getName(), 0);
+    }
+
+    /**
+     * Returns the total credits of the modules in {@code degreePlanner}.
+     */
+    public int getTotalCredits(DegreePlanner degreePlanner) {
+        requireNonNull(degreePlanner);
+
+        return degreePlannerCredits.getOrDefault(getKey(degreePlanner), 0);
+    }
+
+    /**
+     * Adds the credits of {@code module} to the totals of the requirement category and degree planner containing it.
+     */
+    void addModule(Module module) {
+        int credits = module.getCredits().intValue();
+        moduleCredits.put(module.getCode(), credits);
+        addToContainingTotals(module.getCode(), credits);
+    }
+
+    /**
+     * Removes the credits of {@code module} from the totals of the requirement category and degree planner
+     * containing it.
+     */
+    void removeModule(Module module) {
+        Integer credits = moduleCredits.remove(module.getCode());
+        if (credits != null) {
+            addToContainingTotals(module.getCode(), -credits);
+        }
+    }
+
+    /**
+     * Computes the total credits of {@code requirementCategory} from the credits of the modules in it.
+     */
+    void addRequirementCategory(RequirementCategory requirementCategory) {
+        int totalCredits = 0;
+        for (Code code : requirementCategory.getCodeSet()) {
+            codeToRequirementCategory.put(code, requirementCategory.getName());
+            totalCredits += moduleCredits.getOrDefault(code, 0);
+        }
+        requirementCategoryCredits.put(requirementCategory.getName(), totalCredits);
+    }
+
+    void removeRequirementCategory(RequirementCategory requirementCategory) {
+        requirementCategory.getCodeSet().forEach(code ->
+                codeToRequirementCategory.remove(code, requirementCategory.getName()));
+        requirementCategoryCredits.remove(requirementCategory.getName());
+    }
+
+    /**
+     * Computes the total credits of {@code degreePlanner} from the credits of the modules in it.
+     */
+    void addDegreePlanner(DegreePlanner degreePlanner) {
+        List<Object> key = getKey(degreePlanner);
+        int totalCredits = 0;
+        for (Code code : degreePlanner.getCodes()) {
+            codeToDegreePlanner.put(code, key);
+            totalCredits += moduleCredits.getOrDefault(code, 0);
+        }
+        degreePlannerCredits.put(key, totalCredits);
+    }
+
+    void removeDegreePlanner(DegreePlanner degreePlanner) {
+        List<Object> key = getKey(degreePlanner);
+        degreePlanner.getCodes().forEach(code -> codeToDegreePlanner.remove(code, key));
+        degreePlannerCredits.remove(key);
+    }
+
+    /**
+     * Adds {@code credits} to the totals of the requirement category and degree planner containing {@code code}.
+     */
+    private void addToContainingTotals(Code code, int credits) {
+        Name requirementCategoryName = codeToRequirementCategory.get(code);
+        if (requirementCategoryName != null) {
+            requirementCategoryCredits.merge(requirementCategoryName, credits, Integer::sum);
+        }
+
+        List<Object> degreePlannerKey = codeToDegreePlanner.get(code);
+        if (degreePlannerKey != null) {
+            degreePlannerCredits.merge(degreePlannerKey, credits, Integer::sum);
+        }
+    }
+
+    /**
+     * Returns the key identifying {@code degreePlanner} by its year and semester, as its codes change when it is
+     * edited.
+     */
+    private static List<Object> getKey(DegreePlanner degreePlanner) {
+        return List.of(degreePlanner.getYear(), degreePlanner.getSemester());
+    }
+}
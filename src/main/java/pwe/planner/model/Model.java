@@ -1,16 +1,22 @@
 package pwe.planner.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import pwe.planner.commons.core.GuiSettings;
 import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Credits;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleKeywordIndex;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.suggestion.SuggestionFeatures;
+import pwe.planner.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -68,6 +74,18 @@ public interface Model {
     /** Returns the Application */
     ReadOnlyApplication getApplication();
 
+    /** Returns the keyword index of the modules in the Application */
+    ModuleKeywordIndex getModuleKeywordIndex();
+
+    /** Returns the total credits of the modules in each requirement category and degree planner */
+    CreditAggregates getCreditAggregates();
+
+    /**
+     * Returns the features of the modules that are not in a degree planner, for suggesting modules with
+     * {@code bestCredits} and {@code tagsToFind}.
+     */
+    List<SuggestionFeatures> getSuggestionFeatures(Credits bestCredits, Set<Tag> tagsToFind);
+
     /**
      * Returns the user prefs' requirement list file path.
      */
@@ -135,6 +153,12 @@ public interface Model {
      */
     void setModule(Module target, Module editedModule);
 
+    /**
+     * Applies the modifications made by {@code modifications} to the application as a single batch, such that the
+     * observers of each list of the application and the listeners of the application are notified only once.
+     */
+    void applyBatch(Runnable modifications);
+
     /** Returns an unmodifiable view of the filtered module list */
     ObservableList<Module> getFilteredModuleList();
 
@@ -170,6 +194,11 @@ public interface Model {
      */
     void commitApplication();
 
+    /**
+     * Returns true if older application states have been discarded to keep the undo history within its limits.
+     */
+    boolean isApplicationHistoryTruncated();
+
     /**
      * Selected module in the filtered module list.
      * null if no module is selected.
@@ -257,6 +286,11 @@ public interface Model {
      */
     RequirementCategory getRequirementCategory(Name requirementCategoryName);
 
+    /**
+     * Returns the requirement category which contains the given {@code code}, otherwise returns null.
+     */
+    RequirementCategory getRequirementCategoryByCode(Code code);
+
     /**
      * Adds the given requirement.
      * {@code requirement} must not already exist in the requirementCategoryList.
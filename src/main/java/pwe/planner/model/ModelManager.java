@@ -4,7 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,18 +18,27 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import pwe.planner.commons.core.GuiSettings;
 import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.util.LruCache;
 import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.KeywordsPredicate;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleKeywordIndex;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.module.exceptions.ModuleNotFoundException;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.suggestion.SuggestionFeatureExtractor;
+import pwe.planner.model.suggestion.SuggestionFeatures;
+import pwe.planner.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the application data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final int BOUND_PREDICATE_CACHE_CAPACITY = 32;
+    private static final int SUGGESTION_FEATURES_CACHE_CAPACITY = 8;
 
     private final VersionedApplication versionedApplication;
     private final UserPrefs userPrefs;
@@ -38,6 +50,20 @@ public class ModelManager implements Model {
     private final SimpleObjectProperty<Module> selectedModule = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<RequirementCategory> selectedRequirementCategory = new SimpleObjectProperty<>();
 
+    /**
+     * Keyword predicates bound to the keyword index of {@code versionedApplication}, along with the codes of the
+     * modules matching them. Cleared whenever the application is modified.
+     */
+    private final LruCache<KeywordsPredicate<Module>, KeywordsPredicate<Module>> boundModulePredicates =
+            new LruCache<>(BOUND_PREDICATE_CACHE_CAPACITY);
+
+    /**
+     * Features of the modules for the credits and tags of recent module suggestions, so that the modules can be
+     * scored again without recomputing their features. Cleared whenever the application is modified.
+     */
+    private final LruCache<List<Object>, List<SuggestionFeatures>> suggestionFeatures =
+            new LruCache<>(SUGGESTION_FEATURES_CACHE_CAPACITY);
+
     /**
      * Initializes a ModelManager with the given application and userPrefs.
      */
@@ -47,7 +73,7 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with application: " + application + " and user prefs " + userPrefs);
 
-        versionedApplication = new VersionedApplication(application);
+        versionedApplication = new VersionedApplication(application, userPrefs.getUndoHistorySettings());
         this.userPrefs = new UserPrefs(userPrefs);
 
         filteredModules = new FilteredList<>(versionedApplication.getModuleList());
@@ -55,6 +81,10 @@ public class ModelManager implements Model {
         filteredRequirementCategory = new FilteredList<>(versionedApplication.getRequirementCategoryList());
 
         filteredModules.addListener(this::ensureSelectedModuleIsValid);
+        versionedApplication.addListener(observable -> {
+            boundModulePredicates.clear();
+            suggestionFeatures.clear();
+        });
         filteredRequirementCategory.addListener(this::ensureSelectedRequirementCategoryIsValid);
     }
 
@@ -73,6 +103,7 @@ public class ModelManager implements Model {
         requireNonNull(userPrefs);
 
         this.userPrefs.resetData(userPrefs);
+        versionedApplication.setUndoHistorySettings(userPrefs.getUndoHistorySettings());
     }
 
     @Override
@@ -152,6 +183,30 @@ public class ModelManager implements Model {
         return versionedApplication;
     }
 
+    @Override
+    public ModuleKeywordIndex getModuleKeywordIndex() {
+        return versionedApplication.getModuleKeywordIndex();
+    }
+
+    @Override
+    public CreditAggregates getCreditAggregates() {
+        return versionedApplication.getCreditAggregates();
+    }
+
+    @Override
+    public List<SuggestionFeatures> getSuggestionFeatures(Credits bestCredits, Set<Tag> tagsToFind) {
+        requireAllNonNull(bestCredits, tagsToFind);
+
+        List<Object> key = List.of(bestCredits, new HashSet<>(tagsToFind));
+        List<SuggestionFeatures> features = suggestionFeatures.get(key);
+        if (features == null) {
+            features = SuggestionFeatureExtractor.extract(versionedApplication, getModuleKeywordIndex(), bestCredits,
+                    tagsToFind);
+            suggestionFeatures.put(key, features);
+        }
+        return features;
+    }
+
     @Override
     public boolean hasModule(Module module) {
         requireNonNull(module);
@@ -202,6 +257,13 @@ public class ModelManager implements Model {
         versionedApplication.setModule(target, editedModule);
     }
 
+    @Override
+    public void applyBatch(Runnable modifications) {
+        requireNonNull(modifications);
+
+        versionedApplication.applyBatch(modifications);
+    }
+
     //=========== Filtered Module List Accessors =============================================================
 
     /**
@@ -213,11 +275,35 @@ public class ModelManager implements Model {
         return filteredModules;
     }
 
+    /**
+     * {@inheritDoc}
+     * Keyword predicates are bound to the keyword index of the application, so that the modules matching their
+     * keywords are looked up instead of being matched against the attributes of every module. While the
+     * application is unchanged, a recently used keyword predicate reuses its bound predicate and matching modules.
+     */
     @Override
     public void updateFilteredModuleList(Predicate<Module> predicate) {
         requireNonNull(predicate);
 
-        filteredModules.setPredicate(predicate);
+        if (predicate instanceof KeywordsPredicate) {
+            filteredModules.setPredicate(getBoundModulePredicate((KeywordsPredicate<Module>) predicate));
+        } else {
+            filteredModules.setPredicate(predicate);
+        }
+    }
+
+    /**
+     * Returns {@code predicate} bound to the keyword index of the application, reusing the bound predicate cached
+     * for {@code predicate} if any.
+     */
+    private KeywordsPredicate<Module> getBoundModulePredicate(KeywordsPredicate<Module> predicate) {
+        KeywordsPredicate<Module> boundPredicate = boundModulePredicates.get(predicate);
+        if (boundPredicate == null) {
+            ModuleKeywordIndex keywordIndex = versionedApplication.getModuleKeywordIndex();
+            boundPredicate = predicate.withKeywordIndex(keywordIndex);
+            boundModulePredicates.put(predicate, boundPredicate);
+        }
+        return boundPredicate;
     }
 
     //=========== Undo/Redo =================================================================================
@@ -247,6 +333,11 @@ public class ModelManager implements Model {
         versionedApplication.commit();
     }
 
+    @Override
+    public boolean isApplicationHistoryTruncated() {
+        return versionedApplication.isHistoryTruncated();
+    }
+
     //=========== Selected module ===========================================================================
 
     @Override
@@ -392,6 +483,13 @@ public class ModelManager implements Model {
         return versionedApplication.getRequirementCategory(requirementCategoryName);
     }
 
+    @Override
+    public RequirementCategory getRequirementCategoryByCode(Code code) {
+        requireNonNull(code);
+
+        return versionedApplication.getRequirementCategoryByCode(code);
+    }
+
     @Override
     public void addRequirementCategory(RequirementCategory requirementCategory) {
         requireNonNull(requirementCategory);
@@ -3,6 +3,7 @@ package pwe.planner.model;
 import java.nio.file.Path;
 
 import pwe.planner.commons.core.GuiSettings;
+import pwe.planner.commons.core.UndoHistorySettings;
 
 /**
  * Unmodifiable view of user prefs.
@@ -11,6 +12,8 @@ public interface ReadOnlyUserPrefs {
 
     GuiSettings getGuiSettings();
 
+    UndoHistorySettings getUndoHistorySettings();
+
     Path getModuleListFilePath();
 
     Path getDegreePlannerListFilePath();
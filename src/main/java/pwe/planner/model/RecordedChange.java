@@ -0,0 +1,57 @@
+package pwe.planner.model;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A change to a list of an {@code Application}, in which the elements starting from index {@code from} were replaced.
+ * The elements removed and added by the change are recorded so that the change can be reverted and reapplied.
+ */
+class RecordedChange<T> {
+
+    private final RangeReplacer<T> list;
+    private final int from;
+    private final List<T> removed;
+    private final List<T> added;
+
+    RecordedChange(RangeReplacer<T> list, int from, List<? extends T> removed, List<? extends T> added) {
+        requireAllNonNull(list, removed, added);
+
+        this.list = list;
+        this.from = from;
+        this.removed = new ArrayList<>(removed);
+        this.added = new ArrayList<>(added);
+    }
+
+    /**
+     * Reverts this change by replacing the elements it added with the elements it removed.
+     */
+    void revert() {
+        list.replaceRange(from, from + added.size(), removed);
+    }
+
+    /**
+     * Reapplies this change by replacing the elements it removed with the elements it added.
+     */
+    void reapply() {
+        list.replaceRange(from, from + removed.size(), added);
+    }
+
+    /**
+     * Returns the number of elements retained by this change.
+     */
+    int getElementCount() {
+        return removed.size() + added.size();
+    }
+
+    /**
+     * Replaces the elements of a list from index {@code from} (inclusive) to index {@code to} (exclusive) with
+     * {@code replacement}.
+     */
+    @FunctionalInterface
+    interface RangeReplacer<T> {
+        void replaceRange(int from, int to, List<T> replacement);
+    }
+}
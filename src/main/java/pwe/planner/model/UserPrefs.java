@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import pwe.planner.commons.core.GuiSettings;
+import pwe.planner.commons.core.UndoHistorySettings;
 
 /**
  * Represents User's preferences.
@@ -14,6 +15,7 @@ import pwe.planner.commons.core.GuiSettings;
 public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
+    private UndoHistorySettings undoHistorySettings = new UndoHistorySettings();
 
     private Path moduleListFilePath = Paths.get("data", "moduleList.json");
     private Path degreePlannerListFilePath = Paths.get("data", "degreePlannerList.json");
@@ -41,6 +43,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
 
         setGuiSettings(newUserPrefs.getGuiSettings());
+        setUndoHistorySettings(newUserPrefs.getUndoHistorySettings());
         setModuleListFilePath(newUserPrefs.getModuleListFilePath());
         setDegreePlannerListFilePath(newUserPrefs.getDegreePlannerListFilePath());
         setRequirementCategoryListFilePath(newUserPrefs.getRequirementCategoryListFilePath());
@@ -57,6 +60,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.guiSettings = guiSettings;
     }
 
+    public UndoHistorySettings getUndoHistorySettings() {
+        return undoHistorySettings;
+    }
+
+    public void setUndoHistorySettings(UndoHistorySettings undoHistorySettings) {
+        requireNonNull(undoHistorySettings);
+
+        this.undoHistorySettings = undoHistorySettings;
+    }
+
     public Path getModuleListFilePath() {
         return moduleListFilePath;
     }
@@ -99,6 +112,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
+                && undoHistorySettings.equals(o.undoHistorySettings)
                 && moduleListFilePath.toAbsolutePath().equals(o.moduleListFilePath.toAbsolutePath())
                 && degreePlannerListFilePath.toAbsolutePath().equals(o.degreePlannerListFilePath.toAbsolutePath());
 
@@ -106,7 +120,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, moduleListFilePath, degreePlannerListFilePath);
+        return Objects.hash(guiSettings, undoHistorySettings, moduleListFilePath, degreePlannerListFilePath);
     }
 
     @Override
@@ -115,6 +129,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 .append("Gui Settings : ")
                 .append(guiSettings)
                 .append('\n')
+                .append("Undo History Settings : ")
+                .append(undoHistorySettings)
+                .append('\n')
                 .append("Local data file location for module list: ")
                 .append(Paths.get("").toAbsolutePath().relativize(moduleListFilePath.toAbsolutePath()))
                 .append('\n')
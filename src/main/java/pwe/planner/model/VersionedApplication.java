@@ -1,40 +1,138 @@
 package pwe.planner.model;
 
 import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
+import pwe.planner.commons.core.UndoHistorySettings;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
 /**
  * {@code Application} that keeps track of its own history.
+ * The history is kept as the changes made to the lists of this application between consecutive states, rather than
+ * as copies of every state. Undoing or redoing reverts or reapplies only those changes, so its cost is proportional
+ * to the size of the changes, and observers of the lists are only notified of the elements that changed.
+ *
+ * The change log is also what shares structure between states. Modules, degree planners and requirement categories
+ * are immutable, so a committed state only holds the elements that were replaced and their replacements. Every
+ * element that was not touched is shared with the neighbouring states. A commit therefore costs only as much as the
+ * changes it records, and the memory of the history grows with the total size of the changes, not with
+ * the number of states times the size of the application.
+ *
+ * The history is bounded by an {@code UndoHistorySettings}. When a commit takes the history over its limits, the
+ * oldest states are discarded, although the most recent state is always kept so that the last commit can be undone.
  */
 public class VersionedApplication extends Application {
 
-    private final List<ReadOnlyApplication> applicationStateList;
+    // changeLog.get(i) holds the changes that turn state i into state i + 1
+    private final List<List<RecordedChange<?>>> changeLog;
+    private List<RecordedChange<?>> uncommittedChanges;
     private int currentStatePointer;
+    private boolean isRestoringState;
+
+    private UndoHistorySettings undoHistorySettings;
+    private int retainedElementCount;
+    private boolean isHistoryTruncated;
 
     public VersionedApplication(ReadOnlyApplication initialState) {
+        this(initialState, new UndoHistorySettings());
+    }
+
+    public VersionedApplication(ReadOnlyApplication initialState, UndoHistorySettings undoHistorySettings) {
         super(initialState);
-        requireNonNull(initialState);
+        requireAllNonNull(initialState, undoHistorySettings);
 
-        applicationStateList = new ArrayList<>();
-        applicationStateList.add(new Application(initialState));
+        this.undoHistorySettings = undoHistorySettings;
+        changeLog = new ArrayList<>();
+        uncommittedChanges = new ArrayList<>();
         currentStatePointer = 0;
+
+        getModuleList().addListener(
+                (ListChangeListener<Module>) change -> recordChange(change, this::replaceModules));
+        getDegreePlannerList().addListener(
+                (ListChangeListener<DegreePlanner>) change -> recordChange(change, this::replaceDegreePlanners));
+        getRequirementCategoryList().addListener((ListChangeListener<RequirementCategory>) change ->
+                recordChange(change, this::replaceRequirementCategories));
+    }
+
+    /**
+     * Records the changes described by {@code change} as uncommitted changes, unless they are made while restoring
+     * a state.
+     */
+    private <T> void recordChange(ListChangeListener.Change<? extends T> change, RecordedChange.RangeReplacer<T> list) {
+        if (isRestoringState) {
+            return;
+        }
+
+        while (change.next()) {
+            assert !change.wasPermutated() && !change.wasUpdated() : "lists are only changed by replacing elements";
+            uncommittedChanges.add(new RecordedChange<>(list, change.getFrom(), change.getRemoved(),
+                    change.getAddedSubList()));
+        }
     }
 
     /**
-     * Saves a copy of the current {@code Application} state at the end of the state list.
+     * Saves the changes made since the current state as a new state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        applicationStateList.add(new Application(this));
+        changeLog.add(uncommittedChanges);
+        retainedElementCount += countElements(uncommittedChanges);
+        uncommittedChanges = new ArrayList<>();
         currentStatePointer++;
+        discardOldestStatesOverLimits();
         indicateModified();
     }
 
     private void removeStatesAfterCurrentPointer() {
-        applicationStateList.subList(currentStatePointer + 1, applicationStateList.size()).clear();
+        List<List<RecordedChange<?>>> undoneStates = changeLog.subList(currentStatePointer, changeLog.size());
+        undoneStates.forEach(changes -> retainedElementCount -= countElements(changes));
+        undoneStates.clear();
+    }
+
+    /**
+     * Replaces the settings limiting the history with {@code undoHistorySettings}, discarding the oldest states if
+     * the history is over the new limits.
+     */
+    public void setUndoHistorySettings(UndoHistorySettings undoHistorySettings) {
+        requireNonNull(undoHistorySettings);
+
+        this.undoHistorySettings = undoHistorySettings;
+        discardOldestStatesOverLimits();
+    }
+
+    /**
+     * Discards the oldest states until the history is within the limits of {@code undoHistorySettings}.
+     * Only states before the current state are discarded, and the state before the current state is always kept.
+     */
+    private void discardOldestStatesOverLimits() {
+        int discardCount = 0;
+        int discardedElementCount = 0;
+        while (discardCount < currentStatePointer - 1
+                && (changeLog.size() - discardCount > undoHistorySettings.getMaxStates()
+                || retainedElementCount - discardedElementCount > undoHistorySettings.getMaxRetainedItems())) {
+            discardedElementCount += countElements(changeLog.get(discardCount));
+            discardCount++;
+        }
+
+        if (discardCount == 0) {
+            return;
+        }
+
+        changeLog.subList(0, discardCount).clear();
+        currentStatePointer -= discardCount;
+        retainedElementCount -= discardedElementCount;
+        isHistoryTruncated = true;
+    }
+
+    private static int countElements(List<RecordedChange<?>> changes) {
+        return changes.stream().mapToInt(RecordedChange::getElementCount).sum();
     }
 
     /**
@@ -44,8 +142,10 @@ public class VersionedApplication extends Application {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        revertUncommittedChanges();
         currentStatePointer--;
-        resetData(applicationStateList.get(currentStatePointer));
+        restoreState(() -> revertChanges(changeLog.get(currentStatePointer)));
+        indicateModified();
     }
 
     /**
@@ -55,8 +155,36 @@ public class VersionedApplication extends Application {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        revertUncommittedChanges();
+        restoreState(() -> changeLog.get(currentStatePointer).forEach(RecordedChange::reapply));
         currentStatePointer++;
-        resetData(applicationStateList.get(currentStatePointer));
+        indicateModified();
+    }
+
+    /**
+     * Brings the application back to the current state by reverting the changes made since.
+     */
+    private void revertUncommittedChanges() {
+        restoreState(() -> revertChanges(uncommittedChanges));
+        uncommittedChanges.clear();
+    }
+
+    /**
+     * Runs {@code restoration} as a single batch without recording the changes it makes.
+     */
+    private void restoreState(Runnable restoration) {
+        isRestoringState = true;
+        try {
+            applyBatch(restoration);
+        } finally {
+            isRestoringState = false;
+        }
+    }
+
+    private static void revertChanges(List<RecordedChange<?>> changes) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert();
+        }
     }
 
     /**
@@ -66,11 +194,18 @@ public class VersionedApplication extends Application {
         return currentStatePointer > 0;
     }
 
+    /**
+     * Returns true if older states have been discarded from the history to keep it within its limits.
+     */
+    public boolean isHistoryTruncated() {
+        return isHistoryTruncated;
+    }
+
     /**
      * Returns true if {@code redo()} has application states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < applicationStateList.size() - 1;
+        return currentStatePointer < changeLog.size();
     }
 
     @Override
@@ -88,8 +223,9 @@ public class VersionedApplication extends Application {
         VersionedApplication otherVersionedApplication = (VersionedApplication) other;
 
         // state check
+        // the changes in the history are not compared, as the same states can be reached through different changes
         return super.equals(otherVersionedApplication)
-                && applicationStateList.equals(otherVersionedApplication.applicationStateList)
+                && changeLog.size() == otherVersionedApplication.changeLog.size()
                 && currentStatePointer == otherVersionedApplication.currentStatePointer;
     }
 
@@ -0,0 +1,125 @@
+package pwe.planner.model.module;
+
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * Tests that both (or either) of two {@code KeywordsPredicate}s are satisfied.
+ * Unlike {@link java.util.function.Predicate#and} and {@link java.util.function.Predicate#or}, the operands remain
+ * accessible, so that the predicate can be bound to a {@code ModuleKeywordIndex} as a whole.
+ *
+ * When bound to an index, an expression whose operands can all be looked up in the index is resolved by
+ * intersecting or unioning the bitmaps of the modules matching its operands. Otherwise, the
+ * operand that is estimated to decide the result on its own more often is evaluated first.
+ */
+public class CompositeKeywordsPredicate<T> implements KeywordsPredicate<T> {
+    private final KeywordsPredicate<T> left;
+    private final KeywordsPredicate<T> right;
+    private final boolean isConjunction;
+    private final boolean isRightEvaluatedFirst;
+    private final int estimatedMatchCount;
+
+    /**
+     * Creates a {@code CompositeKeywordsPredicate} that evaluates {@code right} before {@code left} if
+     * {@code isRightEvaluatedFirst} is true, and is estimated to be satisfied by {@code estimatedMatchCount} modules.
+     */
+    private CompositeKeywordsPredicate(KeywordsPredicate<T> left, KeywordsPredicate<T> right, boolean isConjunction,
+            boolean isRightEvaluatedFirst, int estimatedMatchCount) {
+        requireAllNonNull(left, right);
+
+        this.left = left;
+        this.right = right;
+        this.isConjunction = isConjunction;
+        this.isRightEvaluatedFirst = isRightEvaluatedFirst;
+        this.estimatedMatchCount = estimatedMatchCount;
+    }
+
+    /**
+     * Returns a predicate that is satisfied only if both {@code left} and {@code right} are satisfied.
+     */
+    public static <T> CompositeKeywordsPredicate<T> and(KeywordsPredicate<T> left, KeywordsPredicate<T> right) {
+        return new CompositeKeywordsPredicate<>(left, right, true, false, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a predicate that is satisfied if either {@code left} or {@code right} is satisfied.
+     */
+    public static <T> CompositeKeywordsPredicate<T> or(KeywordsPredicate<T> left, KeywordsPredicate<T> right) {
+        return new CompositeKeywordsPredicate<>(left, right, false, false, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If both operands can be looked up in {@code keywordIndex}, the returned predicate resolves the codes matching
+     * this predicate from the codes matching the operands. Otherwise, the returned predicate evaluates the operands
+     * in order of their estimated selectivity.
+     */
+    @Override
+    public KeywordsPredicate<T> withKeywordIndex(ModuleKeywordIndex keywordIndex) {
+        KeywordsPredicate<T> boundLeft = left.withKeywordIndex(keywordIndex);
+        KeywordsPredicate<T> boundRight = right.withKeywordIndex(keywordIndex);
+
+        if (boundLeft instanceof IndexedKeywordsPredicate && boundRight instanceof IndexedKeywordsPredicate) {
+            IndexedKeywordsPredicate<T> indexedLeft = (IndexedKeywordsPredicate<T>) boundLeft;
+            IndexedKeywordsPredicate<T> indexedRight = (IndexedKeywordsPredicate<T>) boundRight;
+            return new IndexedKeywordsPredicate<>(this, keywordIndex, () -> isConjunction
+                    ? indexedLeft.getMatchingCodes().and(indexedRight.getMatchingCodes())
+                    : indexedLeft.getMatchingCodes().or(indexedRight.getMatchingCodes()));
+        }
+
+        int leftEstimate = estimateMatchCount(boundLeft, keywordIndex);
+        int rightEstimate = estimateMatchCount(boundRight, keywordIndex);
+        // A conjunction is decided early by an operand that is rarely satisfied, and a disjunction by an operand that
+        // is often satisfied.
+        boolean isRightEvaluatedFirst = isConjunction ? rightEstimate < leftEstimate : rightEstimate > leftEstimate;
+        int estimate = isConjunction
+                ? Math.min(leftEstimate, rightEstimate)
+                : (int) Math.min((long) leftEstimate + rightEstimate, keywordIndex.size());
+        return new CompositeKeywordsPredicate<>(boundLeft, boundRight, isConjunction, isRightEvaluatedFirst, estimate);
+    }
+
+    @Override
+    public boolean test(T object) {
+        KeywordsPredicate<T> first = isRightEvaluatedFirst ? right : left;
+        KeywordsPredicate<T> second = isRightEvaluatedFirst ? left : right;
+        return isConjunction
+                ? first.test(object) && second.test(object)
+                : first.test(object) || second.test(object);
+    }
+
+    /**
+     * Returns the estimated number of modules in {@code keywordIndex} that satisfy {@code predicate}.
+     * Predicates that cannot be looked up in the index are assumed to be satisfied by every module.
+     */
+    private static int estimateMatchCount(KeywordsPredicate<?> predicate, ModuleKeywordIndex keywordIndex) {
+        if (predicate instanceof IndexedKeywordsPredicate) {
+            return ((IndexedKeywordsPredicate<?>) predicate).getMatchingCodes().size();
+        }
+        if (predicate instanceof CompositeKeywordsPredicate) {
+            return Math.min(((CompositeKeywordsPredicate<?>) predicate).estimatedMatchCount, keywordIndex.size());
+        }
+        return keywordIndex.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof CompositeKeywordsPredicate)) {
+            return false;
+        }
+
+        CompositeKeywordsPredicate<?> otherPredicate = (CompositeKeywordsPredicate<?>) other;
+        return left.equals(otherPredicate.left)
+                && right.equals(otherPredicate.right)
+                && isConjunction == otherPredicate.isConjunction;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(left, right, isConjunction);
+    }
+}
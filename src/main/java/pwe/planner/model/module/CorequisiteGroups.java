@@ -0,0 +1,102 @@
+package pwe.planner.model.module;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Partitions module codes into disjoint co-requisite groups.
+ * Every code in a group is a co-requisite of every other code in the same group, so the co-requisites of a module
+ * are the codes of its group excluding its own code.
+ *
+ * Each group is stored as a single record shared by all of its codes. Merging two groups moves the codes of the
+ * smaller group into the record of the larger group, and a code joining or leaving a group only updates the record
+ * of that group.
+ */
+class CorequisiteGroups {
+
+    private final Map<Code, Set<Code>> codeToGroup = new HashMap<>();
+
+    /**
+     * Returns the co-requisites of {@code code}, which are the other codes in the group of {@code code}.
+     */
+    Set<Code> getCorequisites(Code code) {
+        requireNonNull(code);
+
+        Set<Code> group = codeToGroup.get(code);
+        if (group == null) {
+            return new HashSet<>();
+        }
+
+        Set<Code> corequisites = new HashSet<>(group);
+        corequisites.remove(code);
+        return corequisites;
+    }
+
+    /**
+     * Places {@code code} in the same group as each of {@code corequisites}, merging their groups if necessary.
+     *
+     * @return the codes of the resulting group
+     */
+    Set<Code> join(Code code, Set<Code> corequisites) {
+        requireAllNonNull(code, corequisites);
+
+        Set<Code> group = findOrCreateGroup(code);
+        for (Code corequisite : corequisites) {
+            group = union(group, findOrCreateGroup(corequisite));
+        }
+        return new HashSet<>(group);
+    }
+
+    /**
+     * Removes {@code code} from its group.
+     *
+     * @return the codes remaining in the group that {@code code} left
+     */
+    Set<Code> leave(Code code) {
+        requireNonNull(code);
+
+        Set<Code> group = codeToGroup.remove(code);
+        if (group == null) {
+            return new HashSet<>();
+        }
+
+        group.remove(code);
+        return new HashSet<>(group);
+    }
+
+    /**
+     * Removes all codes and groups.
+     */
+    void clear() {
+        codeToGroup.clear();
+    }
+
+    private Set<Code> findOrCreateGroup(Code code) {
+        return codeToGroup.computeIfAbsent(code, unused -> new HashSet<>(Set.of(code)));
+    }
+
+    /**
+     * Merges the smaller of {@code group} and {@code otherGroup} into the larger one.
+     *
+     * @return the merged group
+     */
+    private Set<Code> union(Set<Code> group, Set<Code> otherGroup) {
+        if (group == otherGroup) {
+            return group;
+        }
+
+        Set<Code> largerGroup = group.size() >= otherGroup.size() ? group : otherGroup;
+        Set<Code> smallerGroup = largerGroup == group ? otherGroup : group;
+
+        largerGroup.addAll(smallerGroup);
+        for (Code code : smallerGroup) {
+            codeToGroup.put(code, largerGroup);
+        }
+        return largerGroup;
+    }
+}
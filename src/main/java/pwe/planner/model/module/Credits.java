@@ -3,9 +3,14 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.AppUtil.checkArgument;
 
+import java.util.function.Function;
+
 /**
  * Represents a Module's credits in the application.
  * Guarantees: immutable; is valid as declared in {@link #isValidCredits(String)}
+ *
+ * The credits are parsed once on construction, so that they can be summed as an {@code int} without parsing
+ * {@link #value} each time.
  */
 public class Credits {
 
@@ -13,6 +18,7 @@ public class Credits {
             "Credits should only contain numbers between 0 and 999.";
     public static final String VALIDATION_REGEX = "0|([\\d&&[^0]]{1}[\\d]{0,2})";
     public final String value;
+    private final int intValue;
 
     /**
      * Constructs a {@code Credits}.
@@ -24,6 +30,32 @@ public class Credits {
         checkArgument(isValidCredits(credits), MESSAGE_CONSTRAINTS);
 
         value = credits;
+        intValue = Integer.parseInt(credits);
+    }
+
+    /**
+     * Returns the amount of credits as an {@code int}.
+     */
+    public int intValue() {
+        return intValue;
+    }
+
+    /**
+     * Returns the total credits of the modules with the given {@code codes}, which are looked up by
+     * {@code codeToModule}. Codes that are not mapped to a module are ignored.
+     */
+    public static int sum(Iterable<Code> codes, Function<? super Code, ? extends Module> codeToModule) {
+        requireNonNull(codes);
+        requireNonNull(codeToModule);
+
+        int totalCredits = 0;
+        for (Code code : codes) {
+            Module module = codeToModule.apply(code);
+            if (module != null) {
+                totalCredits += module.getCredits().intValue;
+            }
+        }
+        return totalCredits;
     }
 
     /**
@@ -15,6 +15,13 @@ public class CreditsContainsKeywordsPredicate<T> implements KeywordsPredicate<T>
         this.keyword = keyword;
     }
 
+    @Override
+    public KeywordsPredicate<T> withKeywordIndex(ModuleKeywordIndex keywordIndex) {
+        requireNonNull(keywordIndex);
+
+        return new IndexedKeywordsPredicate<>(this, keywordIndex, () -> keywordIndex.getCodesMatchingCredits(keyword));
+    }
+
     @Override
     public boolean test(T object) {
         requireNonNull(object);
@@ -31,4 +38,8 @@ public class CreditsContainsKeywordsPredicate<T> implements KeywordsPredicate<T>
                 && keyword.equals(((CreditsContainsKeywordsPredicate) other).keyword)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
 }
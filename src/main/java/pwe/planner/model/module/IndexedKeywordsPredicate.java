@@ -0,0 +1,74 @@
+package pwe.planner.model.module;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Supplier;
+
+/**
+ * A {@code KeywordsPredicate} bound to a {@code ModuleKeywordIndex}, which tests a module by checking whether its
+ * code is in the bitmap of modules matching the predicate.
+ * The bitmap of matching modules is resolved from the index when first needed, and resolved again only after the index
+ * has been modified.
+ * Objects other than modules (e.g. degree planners) are not in the index, so they are tested by the predicate this
+ * predicate is equivalent to.
+ */
+public class IndexedKeywordsPredicate<T> implements KeywordsPredicate<T> {
+    private final KeywordsPredicate<T> predicate;
+    private final ModuleKeywordIndex keywordIndex;
+    private final Supplier<ModuleBitmap> matchingCodesSupplier;
+    private ModuleBitmap matchingCodes;
+    private int resolvedModificationCount;
+
+    /**
+     * Creates an {@code IndexedKeywordsPredicate} equivalent to {@code predicate}, whose matching codes are looked up
+     * in {@code keywordIndex} by {@code matchingCodesSupplier}.
+     */
+    public IndexedKeywordsPredicate(KeywordsPredicate<T> predicate, ModuleKeywordIndex keywordIndex,
+            Supplier<ModuleBitmap> matchingCodesSupplier) {
+        requireAllNonNull(predicate, keywordIndex, matchingCodesSupplier);
+
+        this.predicate = predicate;
+        this.keywordIndex = keywordIndex;
+        this.matchingCodesSupplier = matchingCodesSupplier;
+    }
+
+    /**
+     * Returns the codes of the modules that satisfy this predicate.
+     */
+    public ModuleBitmap getMatchingCodes() {
+        if (matchingCodes == null || resolvedModificationCount != keywordIndex.getModificationCount()) {
+            matchingCodes = matchingCodesSupplier.get();
+            resolvedModificationCount = keywordIndex.getModificationCount();
+        }
+        return matchingCodes;
+    }
+
+    @Override
+    public KeywordsPredicate<T> withKeywordIndex(ModuleKeywordIndex keywordIndex) {
+        return predicate.withKeywordIndex(keywordIndex);
+    }
+
+    @Override
+    public boolean test(T object) {
+        requireNonNull(object);
+
+        if (!(object instanceof Module)) {
+            return predicate.test(object);
+        }
+
+        return getMatchingCodes().contains(((Module) object).getCode());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexedKeywordsPredicate // instanceof handles nulls
+                && predicate.equals(((IndexedKeywordsPredicate) other).predicate)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return predicate.hashCode();
+    }
+}
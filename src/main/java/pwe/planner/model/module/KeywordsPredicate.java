@@ -8,4 +8,13 @@ import java.util.function.Predicate;
  */
 @FunctionalInterface
 public interface KeywordsPredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns a predicate equivalent to this predicate which looks up the modules matching its keywords in
+     * {@code keywordIndex}, where possible.
+     * {@code keywordIndex} must be the index of the modules this predicate will be tested against.
+     */
+    default KeywordsPredicate<T> withKeywordIndex(ModuleKeywordIndex keywordIndex) {
+        return this;
+    }
 }
@@ -0,0 +1,95 @@
+package pwe.planner.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of the codes of modules in a {@code ModuleKeywordIndex}, represented as a bitmap over the ordinals
+ * the index assigns to its modules.
+ * Bitmaps of the same index are combined with word-level operations. A bitmap is only valid until its index is next
+ * modified, as the ordinals of removed modules are reused.
+ */
+public class ModuleBitmap extends AbstractSet<Code> {
+    private final ModuleKeywordIndex keywordIndex;
+    private final BitSet ordinals;
+    private final int size;
+
+    /**
+     * Creates a {@code ModuleBitmap} of the modules of {@code keywordIndex} with the given {@code ordinals}.
+     * {@code ordinals} must not be modified afterwards.
+     */
+    ModuleBitmap(ModuleKeywordIndex keywordIndex, BitSet ordinals) {
+        requireNonNull(keywordIndex);
+        requireNonNull(ordinals);
+
+        this.keywordIndex = keywordIndex;
+        this.ordinals = ordinals;
+        size = ordinals.cardinality();
+    }
+
+    /**
+     * Returns the modules in both this bitmap and {@code other}.
+     */
+    public ModuleBitmap and(ModuleBitmap other) {
+        requireNonNull(other);
+        assert keywordIndex == other.keywordIndex;
+
+        BitSet intersection = (BitSet) ordinals.clone();
+        intersection.and(other.ordinals);
+        return new ModuleBitmap(keywordIndex, intersection);
+    }
+
+    /**
+     * Returns the modules in either this bitmap or {@code other}.
+     */
+    public ModuleBitmap or(ModuleBitmap other) {
+        requireNonNull(other);
+        assert keywordIndex == other.keywordIndex;
+
+        BitSet union = (BitSet) ordinals.clone();
+        union.or(other.ordinals);
+        return new ModuleBitmap(keywordIndex, union);
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        if (!(object instanceof Code)) {
+            return false;
+        }
+
+        int ordinal = keywordIndex.getOrdinal((Code) object);
+        return ordinal >= 0 && ordinals.get(ordinal);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Code> iterator() {
+        return new Iterator<>() {
+            private int nextOrdinal = ordinals.nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return nextOrdinal >= 0;
+            }
+
+            @Override
+            public Code next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                Code code = keywordIndex.getCode(nextOrdinal);
+                nextOrdinal = ordinals.nextSetBit(nextOrdinal + 1);
+                return code;
+            }
+        };
+    }
+}
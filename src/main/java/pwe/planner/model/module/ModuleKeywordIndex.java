@@ -0,0 +1,286 @@
+package pwe.planner.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.tag.Tag;
+
+/**
+ * An inverted index from the keywords of the {@code Name}, {@code Code}, {@code Credits}, {@code Semester}s and
+ * {@code Tag}s of modules to the modules.
+ * Keywords are matched in the same way as {@link pwe.planner.logic.parser.ParserUtil#parseKeyword(String, String)}:
+ * a keyword that is a single word matches any word of a value, while a keyword with multiple words must match the
+ * whole value. Matching ignores case.
+ *
+ * Each module in the index is assigned a dense ordinal, and every posting list is a bitmap over these ordinals, so
+ * that the results of lookups can be combined with word-level operations (see {@link ModuleBitmap}). The ordinal of
+ * a removed module is reused by the next module added.
+ *
+ * The index is maintained by {@link UniqueModuleList}, so that the modules matching a keyword are looked up instead
+ * of splitting the attributes of every module each time they are tested.
+ */
+public class ModuleKeywordIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<Code, Integer> codeToOrdinal = new HashMap<>();
+    private final List<Code> ordinalToCode = new ArrayList<>();
+    private final BitSet freeOrdinals = new BitSet();
+
+    private final KeywordPostings names = new KeywordPostings();
+    private final KeywordPostings codes = new KeywordPostings();
+    private final KeywordPostings credits = new KeywordPostings();
+    private final KeywordPostings semesters = new KeywordPostings();
+    private final KeywordPostings tags = new KeywordPostings();
+    private final Map<Tag, BitSet> tagToModules = new HashMap<>();
+    private int modificationCount;
+
+    /**
+     * Returns the modules whose {@code Name} matches {@code keyword}.
+     */
+    public ModuleBitmap getCodesMatchingName(String keyword) {
+        requireNonNull(keyword);
+
+        return names.getModulesMatching(keyword);
+    }
+
+    /**
+     * Returns the modules whose {@code Code} matches {@code keyword}.
+     */
+    public ModuleBitmap getCodesMatchingCode(String keyword) {
+        requireNonNull(keyword);
+
+        return codes.getModulesMatching(keyword);
+    }
+
+    /**
+     * Returns the modules whose {@code Credits} matches {@code keyword}.
+     */
+    public ModuleBitmap getCodesMatchingCredits(String keyword) {
+        requireNonNull(keyword);
+
+        return credits.getModulesMatching(keyword);
+    }
+
+    /**
+     * Returns the modules offered in a {@code Semester} that matches {@code keyword}.
+     */
+    public ModuleBitmap getCodesMatchingSemester(String keyword) {
+        requireNonNull(keyword);
+
+        return semesters.getModulesMatching(keyword);
+    }
+
+    /**
+     * Returns the modules with a {@code Tag} that matches {@code keyword}.
+     */
+    public ModuleBitmap getCodesMatchingTag(String keyword) {
+        requireNonNull(keyword);
+
+        return tags.getModulesMatching(keyword);
+    }
+
+    /**
+     * Returns the number of tags in {@code tagsToCount} that each module has.
+     * Tags are compared using {@code Tag#equals(Object)}.
+     */
+    public TagMatchCounts countMatchingTags(Set<Tag> tagsToCount) {
+        requireNonNull(tagsToCount);
+
+        TagMatchCounts tagMatchCounts = new TagMatchCounts(this);
+        for (Tag tag : tagsToCount) {
+            BitSet modulesWithTag = tagToModules.get(tag);
+            if (modulesWithTag != null) {
+                tagMatchCounts.add(modulesWithTag);
+            }
+        }
+        return tagMatchCounts;
+    }
+
+    /**
+     * Returns the number of modules in the index.
+     */
+    public int size() {
+        return codeToOrdinal.size();
+    }
+
+    /**
+     * Returns the ordinal of the module with {@code code}, or -1 if there is no such module in the index.
+     */
+    int getOrdinal(Code code) {
+        return codeToOrdinal.getOrDefault(code, -1);
+    }
+
+    /**
+     * Returns the code of the module with {@code ordinal}.
+     */
+    Code getCode(int ordinal) {
+        return ordinalToCode.get(ordinal);
+    }
+
+    /**
+     * Returns the number of times the index has been modified.
+     * Bitmaps looked up from the index are only valid until the index is next modified.
+     */
+    int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Adds {@code module} to the index.
+     * There must not be another module with the same code in the index.
+     */
+    void add(Module module) {
+        requireNonNull(module);
+        assert !codeToOrdinal.containsKey(module.getCode());
+
+        Code code = module.getCode();
+        int ordinal = freeOrdinals.isEmpty() ? ordinalToCode.size() : freeOrdinals.nextSetBit(0);
+        if (ordinal == ordinalToCode.size()) {
+            ordinalToCode.add(code);
+        } else {
+            ordinalToCode.set(ordinal, code);
+            freeOrdinals.clear(ordinal);
+        }
+        codeToOrdinal.put(code, ordinal);
+
+        names.add(module.getName().toString(), ordinal);
+        codes.add(code.toString(), ordinal);
+        credits.add(module.getCredits().toString(), ordinal);
+        for (Semester semester : module.getSemesters()) {
+            semesters.add(semester.toString(), ordinal);
+        }
+        for (Tag tag : module.getTags()) {
+            tags.add(tag.tagName, ordinal);
+            tagToModules.computeIfAbsent(tag, unused -> new BitSet()).set(ordinal);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code module} from the index.
+     */
+    void remove(Module module) {
+        requireNonNull(module);
+
+        Code code = module.getCode();
+        Integer ordinal = codeToOrdinal.remove(code);
+        if (ordinal == null) {
+            return;
+        }
+
+        names.remove(module.getName().toString(), ordinal);
+        codes.remove(code.toString(), ordinal);
+        credits.remove(module.getCredits().toString(), ordinal);
+        for (Semester semester : module.getSemesters()) {
+            semesters.remove(semester.toString(), ordinal);
+        }
+        for (Tag tag : module.getTags()) {
+            tags.remove(tag.tagName, ordinal);
+            clearPosting(tagToModules, tag, ordinal);
+        }
+
+        ordinalToCode.set(ordinal, null);
+        freeOrdinals.set(ordinal);
+        modificationCount++;
+    }
+
+    /**
+     * Removes all modules from the index.
+     */
+    void clear() {
+        codeToOrdinal.clear();
+        ordinalToCode.clear();
+        freeOrdinals.clear();
+        names.clear();
+        codes.clear();
+        credits.clear();
+        semesters.clear();
+        tags.clear();
+        tagToModules.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Posting lists from the words and the whole values of a single module attribute to the modules.
+     */
+    private class KeywordPostings {
+        private final Map<String, BitSet> wordToModules = new HashMap<>();
+        private final Map<String, BitSet> valueToModules = new HashMap<>();
+
+        /**
+         * Returns the modules in the posting list of the word {@code keyword} if it is a single word, or the modules
+         * in the posting list of the whole value {@code keyword} otherwise.
+         */
+        ModuleBitmap getModulesMatching(String keyword) {
+            String key = toKey(keyword);
+            BitSet modules = WHITESPACE.matcher(key).find() ? valueToModules.get(key) : wordToModules.get(key);
+            return new ModuleBitmap(ModuleKeywordIndex.this, modules == null ? new BitSet() : (BitSet) modules.clone());
+        }
+
+        void add(String value, int ordinal) {
+            String key = toKey(value);
+            valueToModules.computeIfAbsent(key, unused -> new BitSet()).set(ordinal);
+            for (String word : getWords(key)) {
+                wordToModules.computeIfAbsent(word, unused -> new BitSet()).set(ordinal);
+            }
+        }
+
+        void remove(String value, int ordinal) {
+            String key = toKey(value);
+            clearPosting(valueToModules, key, ordinal);
+            for (String word : getWords(key)) {
+                clearPosting(wordToModules, word, ordinal);
+            }
+        }
+
+        void clear() {
+            wordToModules.clear();
+            valueToModules.clear();
+        }
+    }
+
+    /**
+     * Returns the key under which {@code keyword} is indexed and looked up.
+     * Case is folded with {@code Locale.ROOT}, so that matching does not depend on the default locale
+     * (e.g. the dotted and dotless i of the Turkish locale).
+     */
+    private static String toKey(String keyword) {
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> getWords(String sentence) {
+        Set<String> words = new HashSet<>();
+        for (String word : WHITESPACE.split(sentence)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Clears {@code ordinal} from the posting list of {@code key}, dropping the posting list once it is empty.
+     */
+    private static <K> void clearPosting(Map<K, BitSet> postings, K key, int ordinal) {
+        BitSet modules = postings.get(key);
+        if (modules == null) {
+            return;
+        }
+
+        modules.clear(ordinal);
+        if (modules.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+}
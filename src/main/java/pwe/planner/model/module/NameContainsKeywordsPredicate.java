@@ -15,6 +15,13 @@ public class NameContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
         this.keyword = keyword;
     }
 
+    @Override
+    public KeywordsPredicate<T> withKeywordIndex(ModuleKeywordIndex keywordIndex) {
+        requireNonNull(keywordIndex);
+
+        return new IndexedKeywordsPredicate<>(this, keywordIndex, () -> keywordIndex.getCodesMatchingName(keyword));
+    }
+
     @Override
     public boolean test(T object) {
         requireNonNull(object);
@@ -31,4 +38,8 @@ public class NameContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
                 && keyword.equals(((NameContainsKeywordsPredicate) other).keyword)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
 }
@@ -19,6 +19,13 @@ public class TagContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
         this.keyword = keyword;
     }
 
+    @Override
+    public KeywordsPredicate<T> withKeywordIndex(ModuleKeywordIndex keywordIndex) {
+        requireNonNull(keywordIndex);
+
+        return new IndexedKeywordsPredicate<>(this, keywordIndex, () -> keywordIndex.getCodesMatchingTag(keyword));
+    }
+
     @Override
     public boolean test(T object) {
         requireNonNull(object);
@@ -35,4 +42,8 @@ public class TagContainsKeywordsPredicate<T> implements KeywordsPredicate<T> {
                 && keyword.equals(((TagContainsKeywordsPredicate) other).keyword)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
 }
@@ -0,0 +1,63 @@
+package pwe.planner.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The number of tags out of a set of tags that each module in a {@code ModuleKeywordIndex} has.
+ * The counts are kept as bit planes over the ordinals of the modules: bit {@code i} of the count of a module is set
+ * in the {@code i}-th plane. Adding the bitmap of a tag to the counts is a word-level ripple-carry addition, so the
+ * counts for every module are computed in a number of word operations proportional to the number of tags.
+ * The counts are only valid until the index is next modified.
+ */
+public class TagMatchCounts {
+    private final ModuleKeywordIndex keywordIndex;
+    private final List<BitSet> planes = new ArrayList<>();
+
+    TagMatchCounts(ModuleKeywordIndex keywordIndex) {
+        requireNonNull(keywordIndex);
+
+        this.keywordIndex = keywordIndex;
+    }
+
+    /**
+     * Increments the count of every module whose ordinal is set in {@code tagBitmap}.
+     */
+    void add(BitSet tagBitmap) {
+        BitSet carry = (BitSet) tagBitmap.clone();
+        for (int i = 0; !carry.isEmpty(); i++) {
+            if (i == planes.size()) {
+                planes.add(new BitSet());
+            }
+
+            BitSet plane = planes.get(i);
+            BitSet nextCarry = (BitSet) plane.clone();
+            nextCarry.and(carry);
+            plane.xor(carry);
+            carry = nextCarry;
+        }
+    }
+
+    /**
+     * Returns the number of tags that the module with {@code code} has, or 0 if there is no such module.
+     */
+    public int getCount(Code code) {
+        requireNonNull(code);
+
+        int ordinal = keywordIndex.getOrdinal(code);
+        if (ordinal < 0) {
+            return 0;
+        }
+
+        int count = 0;
+        for (int i = 0; i < planes.size(); i++) {
+            if (planes.get(i).get(ordinal)) {
+                count |= 1 << i;
+            }
+        }
+        return count;
+    }
+}
@@ -3,14 +3,17 @@ package pwe.planner.model.module;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import pwe.planner.commons.util.BatchObservableList;
 import pwe.planner.model.module.exceptions.DuplicateModuleException;
 import pwe.planner.model.module.exceptions.ModuleNotFoundException;
 
@@ -23,13 +26,29 @@ import pwe.planner.model.module.exceptions.ModuleNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * A {@code Code} to {@code Module} index and a {@code Code} to position index are maintained alongside the backing
+ * list so that lookups by module code do not require a scan of the whole list, along with a
+ * {@link ModuleKeywordIndex} of the names and tags of the modules.
+ *
+ * Co-requisites are tracked as disjoint co-requisite groups (see {@link CorequisiteGroups}), and the co-requisites of
+ * each module in the list are derived from its group. As each {@code Module} still holds its own co-requisites, a
+ * change to the members of a group replaces every module of the group whose derived co-requisites change, which is
+ * usually every member, but no module outside the groups involved. The modules to replace are found through the
+ * position index. All the replacements made by a single operation are published to observers of the list as a single
+ * change.
+ *
  * @see Module#isSameModule(Module)
  */
 public class UniqueModuleList implements Iterable<Module> {
 
-    private final ObservableList<Module> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Module> internalList = new BatchObservableList<>();
     private final ObservableList<Module> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Code, Module> codeToModuleMap = new HashMap<>();
+    private final Map<Code, Integer> codeToIndexMap = new HashMap<>();
+    private final ModuleKeywordIndex keywordIndex = new ModuleKeywordIndex();
+    private final CorequisiteGroups corequisiteGroups = new CorequisiteGroups();
+    private boolean isCorequisiteGroupsOutdated;
 
     /**
      * Returns true if the list contains an equivalent module as the given argument.
@@ -37,7 +56,16 @@ public class UniqueModuleList implements Iterable<Module> {
     public boolean contains(Module toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream().anyMatch(toCheck::isSameModule);
+        return codeToModuleMap.containsKey(toCheck.getCode());
+    }
+
+    /**
+     * Returns true if the list contains a module with the same module code as the given argument.
+     */
+    public boolean containsCode(Code toCheck) {
+        requireNonNull(toCheck);
+
+        return codeToModuleMap.containsKey(toCheck);
     }
 
     /**
@@ -46,15 +74,14 @@ public class UniqueModuleList implements Iterable<Module> {
     public Module getModuleByCode(Code toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream()
-                .filter(module -> module.getCode().equals(toCheck))
-                .findFirst()
-                .orElse(null);
+        return codeToModuleMap.get(toCheck);
     }
 
     /**
      * Adds a module to the list.
      * The module must not already exist in the list.
+     * The module joins the co-requisite groups of its co-requisites, and the co-requisites of every module in the
+     * resulting group are updated accordingly.
      */
     public void add(Module toAdd) {
         requireNonNull(toAdd);
@@ -62,59 +89,19 @@ public class UniqueModuleList implements Iterable<Module> {
         if (contains(toAdd)) {
             throw new DuplicateModuleException();
         }
-        internalList.add(toAdd);
-
-        cascadeAddToModuleCorequisites(toAdd);
-    }
-
-    /**
-     * Combines all co-requisites linked to current module into one {@code Set<Code>}, and update all linked modules to
-     * have all-corequisites
-     *
-     * @param moduleToAdd
-     */
-    private void cascadeAddToModuleCorequisites(Module moduleToAdd) {
-        assert moduleToAdd != null;
 
-        // create a union Set<Code> of co-requisites
-        Code currentCode = moduleToAdd.getCode();
-        Set<Code> currentCorequisites = moduleToAdd.getCorequisites();
-        Set<Code> allCorequisites = new HashSet<>(currentCorequisites);
-
-        for (Code codeToAdd : currentCorequisites) {
-            Optional<Module> otherModuleOptional = internalUnmodifiableList.stream()
-                    .filter(module -> module.getCode().equals(codeToAdd))
-                    .findFirst();
-
-            if (otherModuleOptional.isPresent()) {
-                allCorequisites.addAll(otherModuleOptional.get().getCorequisites());
-            }
-        }
-
-        allCorequisites.add(currentCode);
-
-        // update all co-requisite modules with the union set excluding itself
-        for (Code codeToEditCorequisites : allCorequisites) {
-            Optional<Module> otherModuleOptional = internalUnmodifiableList.stream()
-                    .filter(module -> module.getCode().equals(codeToEditCorequisites))
-                    .findFirst();
-
-            if (otherModuleOptional.isPresent()) {
-                Module otherModule = otherModuleOptional.get();
-                Set<Code> editedOtherCorequisites = new HashSet<>(allCorequisites);
-                editedOtherCorequisites.remove(otherModule.getCode());
-
-                Module editedOtherModule = new Module(
-                        otherModule.getCode(),
-                        otherModule.getName(),
-                        otherModule.getCredits(),
-                        otherModule.getSemesters(),
-                        editedOtherCorequisites,
-                        otherModule.getTags()
-                );
-
-                setModule(otherModule, editedOtherModule, false);
-            }
+        updateCorequisiteGroupsIfOutdated();
+        Set<Code> group = corequisiteGroups.join(toAdd.getCode(), toAdd.getCorequisites());
+        Module moduleToAdd = getModuleWithGroupCorequisites(toAdd);
+        internalList.beginBatch();
+        try {
+            internalList.add(moduleToAdd);
+            indexModule(moduleToAdd);
+            codeToIndexMap.put(moduleToAdd.getCode(), internalList.size() - 1);
+
+            updateCorequisitesOfGroup(group);
+        } finally {
+            internalList.endBatch();
         }
     }
 
@@ -122,115 +109,151 @@ public class UniqueModuleList implements Iterable<Module> {
      * Replaces the module {@code target} in the list with {@code editedModule}.
      * {@code target} must exist in the list.
      * The module identity of {@code editedModule} must not be the same as another existing module in the list.
+     * {@code target} leaves its co-requisite group and {@code editedModule} joins the co-requisite groups of its
+     * co-requisites, and the co-requisites of every module in the affected groups are updated accordingly.
      */
     public void setModule(Module target, Module editedModule) {
         requireAllNonNull(target, editedModule);
 
-        setModule(target, editedModule, true);
-    }
+        int index = indexOf(target);
+        if (index == -1) {
+            throw new ModuleNotFoundException();
+        }
+
+        if (!target.isSameModule(editedModule) && contains(editedModule)) {
+            throw new DuplicateModuleException();
+        }
 
+        updateCorequisiteGroupsIfOutdated();
+        Set<Code> previousGroup = corequisiteGroups.leave(target.getCode());
+        Set<Code> group = corequisiteGroups.join(editedModule.getCode(), editedModule.getCorequisites());
+        Module moduleToSet = getModuleWithGroupCorequisites(editedModule);
+        internalList.beginBatch();
+        try {
+            internalList.set(index, moduleToSet);
+            unindexModule(target);
+            indexModule(moduleToSet);
+            codeToIndexMap.remove(target.getCode());
+            codeToIndexMap.put(moduleToSet.getCode(), index);
+
+            updateCorequisitesOfGroup(previousGroup);
+            updateCorequisitesOfGroup(group);
+        } finally {
+            internalList.endBatch();
+        }
+    }
 
     /**
-     * Replaces the module {@code target} in the list with {@code editedModule}.
-     * {@code target} must exist in the list.
-     * The module identity of {@code editedModule} must not be the same as another existing module in the list.
+     * Removes the equivalent module from the list.
+     * The module must exist in the list.
+     * The module leaves its co-requisite group, and the co-requisites of the remaining modules in the group are
+     * updated accordingly.
      */
-    private void setModule(Module target, Module editedModule, boolean cascade) {
-        requireAllNonNull(target, editedModule);
+    public void remove(Module toRemove) {
+        requireNonNull(toRemove);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(toRemove);
         if (index == -1) {
             throw new ModuleNotFoundException();
         }
 
-        if (!target.isSameModule(editedModule) && contains(editedModule)) {
-            throw new DuplicateModuleException();
+        internalList.beginBatch();
+        try {
+            internalList.remove(index);
+            unindexModule(toRemove);
+            codeToIndexMap.remove(toRemove.getCode());
+            // The modules after the removed module have moved up by one, as they have in the backing array
+            indexPositions(index, internalList.size());
+
+            updateCorequisiteGroupsIfOutdated();
+            Set<Code> previousGroup = corequisiteGroups.leave(toRemove.getCode());
+            updateCorequisitesOfGroup(previousGroup);
+        } finally {
+            internalList.endBatch();
         }
+    }
 
-        internalList.set(index, editedModule);
+    /**
+     * Returns {@code module} with its co-requisites replaced by the other codes in its co-requisite group.
+     * {@code module} itself is returned if its co-requisites are already up to date.
+     */
+    private Module getModuleWithGroupCorequisites(Module module) {
+        assert module != null;
 
-        if (cascade) {
-            if (!target.getCode().equals(editedModule.getCode())) {
-                cascadeEditToModuleCorequisites(target, editedModule);
-            }
-            cascadeDeleteToModuleCorequisites(target);
-            cascadeAddToModuleCorequisites(editedModule);
+        Set<Code> corequisites = corequisiteGroups.getCorequisites(module.getCode());
+        if (corequisites.equals(module.getCorequisites())) {
+            return module;
         }
+
+        return new Module(module.getCode(), module.getName(), module.getCredits(), module.getSemesters(),
+                corequisites, module.getTags());
     }
 
     /**
-     * Cascades the edited module code by updating {@code UniqueModuleList} accordingly
-     * @param target module code to edit/find
-     * @param editedModule module code to replace with
+     * Brings the co-requisites of the modules with codes in {@code group} in line with their co-requisite groups.
+     * Only modules whose co-requisites have changed are replaced in the list, and they are found through the position
+     * index.
      */
-    private void cascadeEditToModuleCorequisites(Module target, Module editedModule) {
-        assert target != null;
-        assert editedModule != null;
+    private void updateCorequisitesOfGroup(Set<Code> group) {
+        assert group != null;
 
-        ObservableList<Module> modules = internalUnmodifiableList;
-        Code codeToEdit = target.getCode();
-        Code editedCode = editedModule.getCode();
+        for (Code code : group) {
+            Module module = codeToModuleMap.get(code);
+            if (module == null) {
+                continue;
+            }
 
-        for (Module module : modules) {
-            if (module.getCorequisites().contains(codeToEdit)) {
-                Set<Code> editedCorequisiteCodes = new HashSet<>(module.getCorequisites());
-                editedCorequisiteCodes.remove(codeToEdit);
-                editedCorequisiteCodes.add(editedCode);
-
-                Module editedCorequisiteModule = new Module(
-                        module.getCode(),
-                        module.getName(),
-                        module.getCredits(),
-                        module.getSemesters(),
-                        editedCorequisiteCodes,
-                        module.getTags()
-                );
-
-                setModule(module, editedCorequisiteModule, false);
+            Module updatedModule = getModuleWithGroupCorequisites(module);
+            if (updatedModule != module) {
+                internalList.set(codeToIndexMap.get(code), updatedModule);
+                indexModule(updatedModule);
             }
         }
     }
 
     /**
-     * Removes the equivalent module from the list.
-     * The module must exist in the list.
+     * Returns the position of {@code module} in the list, or -1 if the list does not contain a module equal to it.
      */
-    public void remove(Module toRemove) {
-        requireNonNull(toRemove);
-
-        if (!internalList.remove(toRemove)) {
-            throw new ModuleNotFoundException();
+    private int indexOf(Module module) {
+        Integer index = codeToIndexMap.get(module.getCode());
+        if (index == null || !internalList.get(index).equals(module)) {
+            return -1;
         }
-
-        cascadeDeleteToModuleCorequisites(toRemove);
+        return index;
     }
 
     /**
-     * Cascades the deleted module code by removing it from {@code UniqueModuleList} accordingly
-     * @param moduleToDelete module code to delete
+     * Indexes the positions of the modules from index {@code from} (inclusive) to index {@code to} (exclusive).
      */
-    private void cascadeDeleteToModuleCorequisites(Module moduleToDelete) {
-        assert moduleToDelete != null;
-
-        ObservableList<Module> modules = internalUnmodifiableList;
-        Code codeToDelete = moduleToDelete.getCode();
+    private void indexPositions(int from, int to) {
+        for (int i = from; i < to; i++) {
+            codeToIndexMap.put(internalList.get(i).getCode(), i);
+        }
+    }
 
-        for (Module module : modules) {
-            if (module.getCorequisites().contains(codeToDelete)) {
-                Set<Code> editedCorequisiteCodes = new HashSet<>(module.getCorequisites());
-                editedCorequisiteCodes.remove(codeToDelete);
-
-                Module editedModule = new Module(
-                        module.getCode(),
-                        module.getName(),
-                        module.getCredits(),
-                        module.getSemesters(),
-                        editedCorequisiteCodes,
-                        module.getTags()
-                );
-
-                setModule(module, editedModule, false);
-            }
+    /**
+     * Replaces the modules from index {@code from} (inclusive) to index {@code to} (exclusive) with
+     * {@code replacement}, without updating the co-requisites of any other module.
+     * This is used to revert or reapply a recorded change to this list, whose co-requisite updates are recorded as
+     * changes of their own, so {@code replacement} is expected to keep the list free of duplicate modules.
+     * The co-requisite groups are rebuilt from the list the next time they are needed.
+     */
+    public void replaceRange(int from, int to, List<Module> replacement) {
+        requireAllNonNull(replacement);
+
+        List<Module> range = internalList.subList(from, to);
+        range.forEach(this::unindexModule);
+        range.forEach(module -> codeToIndexMap.remove(module.getCode()));
+        internalList.beginBatch();
+        try {
+            range.clear();
+            internalList.addAll(from, replacement);
+            replacement.forEach(this::indexModule);
+            // The modules after the range have only moved if the size of the range has changed
+            indexPositions(from, to - from == replacement.size() ? to : internalList.size());
+            isCorequisiteGroupsOutdated = true;
+        } finally {
+            internalList.endBatch();
         }
     }
 
@@ -238,11 +261,15 @@ public class UniqueModuleList implements Iterable<Module> {
         requireNonNull(replacement);
 
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
      * Replaces the contents of this list with {@code modules}.
      * {@code modules} must not contain duplicate modules.
+     * The co-requisite groups are built from {@code modules} in a single pass, and the co-requisites of each module
+     * are brought in line with its group before the list is replaced, such that observers of this list see a single
+     * change.
      */
     public void setModules(List<Module> modules) {
         requireAllNonNull(modules);
@@ -251,7 +278,99 @@ public class UniqueModuleList implements Iterable<Module> {
             throw new DuplicateModuleException();
         }
 
-        internalList.setAll(modules);
+        corequisiteGroups.clear();
+        for (Module module : modules) {
+            corequisiteGroups.join(module.getCode(), module.getCorequisites());
+        }
+        isCorequisiteGroupsOutdated = false;
+
+        List<Module> modulesWithGroupCorequisites = new ArrayList<>(modules.size());
+        codeToModuleMap.clear();
+        keywordIndex.clear();
+        for (Module module : modules) {
+            Module moduleWithGroupCorequisites = getModuleWithGroupCorequisites(module);
+            modulesWithGroupCorequisites.add(moduleWithGroupCorequisites);
+            indexModule(moduleWithGroupCorequisites);
+        }
+        internalList.setAll(modulesWithGroupCorequisites);
+        codeToIndexMap.clear();
+        indexPositions(0, internalList.size());
+    }
+
+    /**
+     * Rebuilds the {@code Code} to {@code Module} index, the position index, the keyword index and the co-requisite
+     * groups from the backing list.
+     */
+    private void rebuildIndexes() {
+        codeToModuleMap.clear();
+        keywordIndex.clear();
+        internalList.forEach(this::indexModule);
+        codeToIndexMap.clear();
+        indexPositions(0, internalList.size());
+        rebuildCorequisiteGroups();
+    }
+
+    /**
+     * Adds {@code module} to the {@code Code} to {@code Module} index and the keyword index, replacing the module
+     * previously indexed under the same code.
+     */
+    private void indexModule(Module module) {
+        Module previousModule = codeToModuleMap.put(module.getCode(), module);
+        if (previousModule != null) {
+            keywordIndex.remove(previousModule);
+        }
+        keywordIndex.add(module);
+    }
+
+    /**
+     * Removes {@code module} from the {@code Code} to {@code Module} index and the keyword index, if it is the
+     * module indexed under its code.
+     */
+    private void unindexModule(Module module) {
+        if (codeToModuleMap.remove(module.getCode(), module)) {
+            keywordIndex.remove(module);
+        }
+    }
+
+    /**
+     * Rebuilds the co-requisite groups from the backing list.
+     */
+    private void rebuildCorequisiteGroups() {
+        corequisiteGroups.clear();
+        for (Module module : internalList) {
+            corequisiteGroups.join(module.getCode(), module.getCorequisites());
+        }
+        isCorequisiteGroupsOutdated = false;
+    }
+
+    private void updateCorequisiteGroupsIfOutdated() {
+        if (isCorequisiteGroupsOutdated) {
+            rebuildCorequisiteGroups();
+        }
+    }
+
+    /**
+     * Begins a batch of modifications to this list.
+     * Observers of this list are notified of all the modifications made within the batch through a single change
+     * when the outermost batch ends.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch of modifications begun with {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Returns the keyword index of the names and tags of the modules in this list.
+     * The index is kept up to date with every modification of this list.
+     */
+    public ModuleKeywordIndex getKeywordIndex() {
+        return keywordIndex;
     }
 
     /**
@@ -282,11 +401,10 @@ public class UniqueModuleList implements Iterable<Module> {
      * Returns true if {@code modules} contains only unique modules.
      */
     private boolean modulesAreUnique(List<Module> modules) {
-        for (int i = 0; i < modules.size() - 1; i++) {
-            for (int j = i + 1; j < modules.size(); j++) {
-                if (modules.get(i).isSameModule(modules.get(j))) {
-                    return false;
-                }
+        Set<Code> codes = new HashSet<>();
+        for (Module module : modules) {
+            if (!codes.add(module.getCode())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,209 @@
+package pwe.planner.model.planner;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+
+/**
+ * Balances the credits of the regular semesters of a degree plan by moving modules between them.
+ *
+ * Modules are moved together with their co-requisites, and only to semesters that all of them are offered in. Modules
+ * in special terms (semesters 3 and 4) are left where they are, and no module is moved into a special term.
+ *
+ * The balancer runs a steepest-descent local search over single moves and swaps of co-requisite groups, minimising the
+ * variance of the credits of the regular semesters. As moving modules between semesters keeps the total credits
+ * unchanged, the variance is minimised by minimising the sum of the squares of the credits of the semesters, and the
+ * change caused by a candidate move is computed in constant time from the cached credits of its two semesters.
+ */
+public class DegreePlanBalancer {
+
+    private static final Set<Semester> REGULAR_SEMESTERS = Set.of(new Semester("1"), new Semester("2"));
+    private static final int MAX_NUMBER_OF_ITERATIONS = 1000;
+
+    private final List<DegreePlanner> degreePlanners = new ArrayList<>();
+    private final List<MovableGroup> groups = new ArrayList<>();
+    private final int[] initialCredits;
+    private final int[] credits;
+
+    /**
+     * Creates a {@code DegreePlanBalancer} for the degree plan of {@code application}, and balances it.
+     */
+    public DegreePlanBalancer(ReadOnlyApplication application) {
+        requireNonNull(application);
+
+        application.getDegreePlannerList().stream()
+                .filter(degreePlanner -> REGULAR_SEMESTERS.contains(degreePlanner.getSemester()))
+                .sorted()
+                .forEach(degreePlanners::add);
+
+        Map<Code, Module> codeToModule = new HashMap<>();
+        application.getModuleList().forEach(module -> codeToModule.put(module.getCode(), module));
+
+        initialCredits = new int[degreePlanners.size()];
+        for (int i = 0; i < degreePlanners.size(); i++) {
+            Set<Code> groupedCodes = new HashSet<>();
+            Set<Code> plannerCodes = degreePlanners.get(i).getCodes();
+            for (Code code : new TreeSet<>(plannerCodes)) {
+                Module module = codeToModule.get(code);
+                if (module == null || groupedCodes.contains(code)) {
+                    continue;
+                }
+
+                Set<Code> groupCodes = new TreeSet<>(module.getCorequisites());
+                groupCodes.retainAll(plannerCodes);
+                groupCodes.add(code);
+                groupedCodes.addAll(groupCodes);
+
+                MovableGroup group = new MovableGroup(groupCodes, i, codeToModule);
+                groups.add(group);
+                initialCredits[i] += group.credits;
+            }
+        }
+        credits = initialCredits.clone();
+
+        balance();
+    }
+
+    /**
+     * Returns the degree planner that each module should be moved to, keyed by the code of the module in the order of
+     * the codes. Co-requisites of a module that are moved along with it are not included.
+     */
+    public Map<Code, DegreePlanner> getMoves() {
+        Map<Code, DegreePlanner> moves = new TreeMap<>();
+        for (MovableGroup group : groups) {
+            if (group.degreePlanner != group.initialDegreePlanner) {
+                moves.put(group.codes.first(), degreePlanners.get(group.degreePlanner));
+            }
+        }
+        return moves;
+    }
+
+    /**
+     * Returns the credits of each regular semester before balancing, in the order of their years and semesters.
+     */
+    public int[] getInitialCredits() {
+        return initialCredits.clone();
+    }
+
+    /**
+     * Returns the credits of each regular semester after balancing, in the order of their years and semesters.
+     */
+    public int[] getBalancedCredits() {
+        return credits.clone();
+    }
+
+    /**
+     * Repeatedly applies the move or swap that reduces the sum of the squares of the credits of the semesters the
+     * most, until no move or swap reduces it.
+     */
+    private void balance() {
+        for (int iteration = 0; iteration < MAX_NUMBER_OF_ITERATIONS; iteration++) {
+            long bestChange = 0;
+            MovableGroup bestGroup = null;
+            MovableGroup bestSwappedGroup = null;
+            int bestDestination = -1;
+
+            for (int g = 0; g < groups.size(); g++) {
+                MovableGroup group = groups.get(g);
+                for (int destination : group.allowedDegreePlanners) {
+                    if (destination == group.degreePlanner) {
+                        continue;
+                    }
+
+                    long change = getChange(group.degreePlanner, destination, group.credits);
+                    if (change < bestChange) {
+                        bestChange = change;
+                        bestGroup = group;
+                        bestSwappedGroup = null;
+                        bestDestination = destination;
+                    }
+                }
+
+                for (int h = g + 1; h < groups.size(); h++) {
+                    MovableGroup otherGroup = groups.get(h);
+                    if (otherGroup.degreePlanner == group.degreePlanner
+                            || !group.allowedDegreePlanners.contains(otherGroup.degreePlanner)
+                            || !otherGroup.allowedDegreePlanners.contains(group.degreePlanner)) {
+                        continue;
+                    }
+
+                    long change = getChange(group.degreePlanner, otherGroup.degreePlanner,
+                            group.credits - otherGroup.credits);
+                    if (change < bestChange) {
+                        bestChange = change;
+                        bestGroup = group;
+                        bestSwappedGroup = otherGroup;
+                        bestDestination = otherGroup.degreePlanner;
+                    }
+                }
+            }
+
+            if (bestGroup == null) {
+                return;
+            }
+            if (bestSwappedGroup != null) {
+                move(bestSwappedGroup, bestGroup.degreePlanner);
+            }
+            move(bestGroup, bestDestination);
+        }
+    }
+
+    /**
+     * Returns the change in the sum of the squares of the credits of the semesters if {@code movedCredits} credits
+     * are moved from the degree planner at {@code source} to the degree planner at {@code destination}.
+     */
+    private long getChange(int source, int destination, int movedCredits) {
+        long sourceCredits = credits[source];
+        long destinationCredits = credits[destination];
+        return 2L * movedCredits * (destinationCredits - sourceCredits + movedCredits);
+    }
+
+    private void move(MovableGroup group, int destination) {
+        credits[group.degreePlanner] -= group.credits;
+        credits[destination] += group.credits;
+        group.degreePlanner = destination;
+    }
+
+    /**
+     * A module in the degree plan together with its co-requisites, which have to be moved together.
+     */
+    private class MovableGroup {
+        private final TreeSet<Code> codes;
+        private final int credits;
+        private final int initialDegreePlanner;
+        private final Set<Integer> allowedDegreePlanners = new TreeSet<>();
+        private int degreePlanner;
+
+        MovableGroup(Set<Code> codes, int degreePlanner, Map<Code, Module> codeToModule) {
+            this.codes = new TreeSet<>(codes);
+            this.initialDegreePlanner = degreePlanner;
+            this.degreePlanner = degreePlanner;
+            credits = Credits.sum(codes, codeToModule::get);
+
+            // Like planner_move, requires every co-requisite to be offered, including those not in the degree plan.
+            Set<Code> requiredCodes = new HashSet<>(codes);
+            codes.stream().map(codeToModule::get).filter(module -> module != null)
+                    .forEach(module -> requiredCodes.addAll(module.getCorequisites()));
+            for (int i = 0; i < degreePlanners.size(); i++) {
+                Semester semester = degreePlanners.get(i).getSemester();
+                boolean isOffered = requiredCodes.stream().map(codeToModule::get)
+                        .allMatch(module -> module != null && module.getSemesters().contains(semester));
+                if (isOffered) {
+                    allowedDegreePlanners.add(i);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,487 @@
+package pwe.planner.model.planner;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.exceptions.DegreePlanGenerationException;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * Generates a degree plan that fulfils the credits of every requirement category by adding modules to the degree
+ * planners of an application, such that the credits of every degree planner are within given bounds.
+ *
+ * Modules are added in co-requisite groups, as co-requisites have to be in the same degree planner, and a group is
+ * only added to a degree planner whose semester all of its modules are offered in. Modules that are already in the
+ * degree plan are kept where they are. Among the plans found, the plan that adds the fewest credits is preferred,
+ * and ties are broken in favour of leaving groups out and then adding them to earlier degree planners, so that the same
+ * plan is generated regardless of how the search is scheduled.
+ *
+ * The plans are searched by branch-and-bound: a partial plan is abandoned once it cannot add fewer credits than the
+ * best plan found so far, or once the remaining groups cannot fulfil a requirement category. The search is split into
+ * subproblems that are searched on the common fork/join pool, and stops once its time budget runs out.
+ */
+public class DegreePlanGenerator {
+
+    public static final String MESSAGE_CONSTRAINTS = "Minimum credits should not be more than maximum credits.";
+
+    private static final int SUBPROBLEMS_PER_WORKER = 4;
+    private static final int UNASSIGNED = -1;
+
+    private final List<DegreePlanner> degreePlanners;
+    private final int minCredits;
+    private final int maxCredits;
+    private final int[] plannedCredits;
+    private final int[] unfulfilledCredits;
+    private final List<CorequisiteGroup> groups = new ArrayList<>();
+
+    /**
+     * Contribution of each group onwards to each requirement category, such that {@code remainingCategoryCredits[i][c]}
+     * is the total credits that groups {@code i} onwards can contribute to category {@code c}.
+     */
+    private final int[][] remainingCategoryCredits;
+
+    /**
+     * Creates a {@code DegreePlanGenerator} for the degree planners of {@code application}, whose credits must be
+     * between {@code minCredits} and {@code maxCredits} inclusive.
+     */
+    public DegreePlanGenerator(ReadOnlyApplication application, int minCredits, int maxCredits) {
+        requireNonNull(application);
+        checkArgument(minCredits <= maxCredits, MESSAGE_CONSTRAINTS);
+
+        this.minCredits = minCredits;
+        this.maxCredits = maxCredits;
+
+        degreePlanners = new ArrayList<>(application.getDegreePlannerList());
+        degreePlanners.sort(Comparator.naturalOrder());
+
+        Map<Code, Module> codeToModule = new HashMap<>();
+        application.getModuleList().forEach(module -> codeToModule.put(module.getCode(), module));
+
+        Set<Code> plannerCodes = new HashSet<>();
+        plannedCredits = new int[degreePlanners.size()];
+        for (int i = 0; i < degreePlanners.size(); i++) {
+            for (Code code : degreePlanners.get(i).getCodes()) {
+                plannerCodes.add(code);
+                plannedCredits[i] += getCredits(codeToModule.get(code));
+            }
+        }
+
+        List<RequirementCategory> requirementCategories = application.getRequirementCategoryList();
+        unfulfilledCredits = new int[requirementCategories.size()];
+        Map<Code, List<Integer>> codeToCategories = new HashMap<>();
+        for (int c = 0; c < requirementCategories.size(); c++) {
+            RequirementCategory requirementCategory = requirementCategories.get(c);
+            unfulfilledCredits[c] = requirementCategory.getCredits().intValue();
+            for (Code code : requirementCategory.getCodeSet()) {
+                if (plannerCodes.contains(code)) {
+                    unfulfilledCredits[c] -= getCredits(codeToModule.get(code));
+                } else {
+                    codeToCategories.computeIfAbsent(code, unused -> new ArrayList<>()).add(c);
+                }
+            }
+        }
+
+        Set<Code> groupedCodes = new HashSet<>();
+        for (Code code : new TreeSet<>(codeToCategories.keySet())) {
+            if (groupedCodes.contains(code)) {
+                continue;
+            }
+            Set<Code> groupCodes = getCorequisiteGroup(code, codeToModule);
+            groupedCodes.addAll(groupCodes);
+            // Groups with a module that is missing or already in the degree plan cannot be added as a whole.
+            if (groupCodes.stream().anyMatch(groupCode -> !codeToModule.containsKey(groupCode)
+                    || plannerCodes.contains(groupCode))) {
+                continue;
+            }
+            groups.add(new CorequisiteGroup(groupCodes, codeToModule, codeToCategories));
+        }
+        // Groups that contribute more credits to the requirement categories are tried first.
+        groups.sort(Comparator.comparingInt(CorequisiteGroup::getCategoryCredits).reversed()
+                .thenComparingInt(group -> group.credits)
+                .thenComparing(group -> group.codes.first()));
+
+        remainingCategoryCredits = new int[groups.size() + 1][unfulfilledCredits.length];
+        for (int i = groups.size() - 1; i >= 0; i--) {
+            for (int c = 0; c < unfulfilledCredits.length; c++) {
+                remainingCategoryCredits[i][c] = remainingCategoryCredits[i + 1][c] + groups.get(i).categoryCredits[c];
+            }
+        }
+    }
+
+    /**
+     * Returns the degree planners of the plan that adds the fewest credits among the plans found within
+     * {@code timeBudgetMillis} milliseconds, in order of their year and semester, or an empty {@code Optional} if no
+     * plan is found.
+     * The calling thread waits for the search, so this method returns at most about {@code timeBudgetMillis}
+     * milliseconds later.
+     *
+     * @throws DegreePlanGenerationException if the search fails unexpectedly.
+     */
+    public Optional<List<DegreePlanner>> generate(long timeBudgetMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        AtomicReference<Plan> bestPlan = new AtomicReference<>();
+
+        List<SearchState> subproblems = split(new SearchState(), bestPlan);
+        List<Future<?>> searches = new ArrayList<>();
+        for (SearchState subproblem : subproblems) {
+            searches.add(ForkJoinPool.commonPool().submit(() -> subproblem.search(bestPlan, deadline)));
+        }
+        for (Future<?> search : searches) {
+            try {
+                search.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException te) {
+                // The search stops by itself once it notices that the deadline has passed.
+                search.cancel(false);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException ee) {
+                throw new DegreePlanGenerationException(ee.getCause());
+            }
+        }
+
+        return Optional.ofNullable(bestPlan.get()).map(this::toDegreePlanners);
+    }
+
+    /**
+     * Expands {@code root} breadth-first into enough subproblems to keep every worker of the common pool busy.
+     * Plans that are found while expanding are offered to {@code bestPlan}.
+     */
+    private List<SearchState> split(SearchState root, AtomicReference<Plan> bestPlan) {
+        int targetSubproblems = ForkJoinPool.commonPool().getParallelism() * SUBPROBLEMS_PER_WORKER;
+        Deque<SearchState> frontier = new ArrayDeque<>();
+        frontier.add(root);
+        while (!frontier.isEmpty() && frontier.size() < targetSubproblems
+                && frontier.peekFirst().nextGroup < groups.size()) {
+            SearchState state = frontier.pollFirst();
+            if (state.isComplete()) {
+                state.offerTo(bestPlan);
+                continue;
+            }
+            if (!state.canFulfilRequirements()) {
+                continue;
+            }
+            frontier.addAll(state.expand());
+        }
+        return new ArrayList<>(frontier);
+    }
+
+    /**
+     * Returns the degree planners with the modules of {@code plan} added.
+     */
+    private List<DegreePlanner> toDegreePlanners(Plan plan) {
+        List<Set<Code>> codes = new ArrayList<>();
+        degreePlanners.forEach(degreePlanner -> codes.add(new HashSet<>(degreePlanner.getCodes())));
+        for (int i = 0; i < groups.size(); i++) {
+            if (plan.assignment[i] != UNASSIGNED) {
+                codes.get(plan.assignment[i]).addAll(groups.get(i).codes);
+            }
+        }
+
+        List<DegreePlanner> generatedDegreePlanners = new ArrayList<>();
+        for (int i = 0; i < degreePlanners.size(); i++) {
+            DegreePlanner degreePlanner = degreePlanners.get(i);
+            generatedDegreePlanners.add(new DegreePlanner(degreePlanner.getYear(), degreePlanner.getSemester(),
+                    codes.get(i)));
+        }
+        return generatedDegreePlanners;
+    }
+
+    /**
+     * Returns the codes of {@code code} and all of its co-requisites, directly or through other co-requisites.
+     */
+    private static Set<Code> getCorequisiteGroup(Code code, Map<Code, Module> codeToModule) {
+        Set<Code> group = new TreeSet<>();
+        Deque<Code> codesToVisit = new ArrayDeque<>();
+        codesToVisit.add(code);
+        while (!codesToVisit.isEmpty()) {
+            Code codeToVisit = codesToVisit.poll();
+            if (!group.add(codeToVisit) || !codeToModule.containsKey(codeToVisit)) {
+                continue;
+            }
+            codesToVisit.addAll(codeToModule.get(codeToVisit).getCorequisites());
+        }
+        return group;
+    }
+
+    private static int getCredits(Module module) {
+        return module == null ? 0 : module.getCredits().intValue();
+    }
+
+    /**
+     * Modules that have to be added to the same degree planner.
+     */
+    private class CorequisiteGroup {
+        private final TreeSet<Code> codes;
+        private final int credits;
+        private final int[] categoryCredits = new int[unfulfilledCredits.length];
+        private final List<Integer> allowedDegreePlanners = new ArrayList<>();
+
+        CorequisiteGroup(Set<Code> codes, Map<Code, Module> codeToModule, Map<Code, List<Integer>> codeToCategories) {
+            this.codes = new TreeSet<>(codes);
+            int totalCredits = 0;
+            for (Code code : codes) {
+                int moduleCredits = getCredits(codeToModule.get(code));
+                totalCredits += moduleCredits;
+                for (int c : codeToCategories.getOrDefault(code, List.of())) {
+                    categoryCredits[c] += moduleCredits;
+                }
+            }
+            credits = totalCredits;
+
+            for (int i = 0; i < degreePlanners.size(); i++) {
+                Semester semester = degreePlanners.get(i).getSemester();
+                if (codes.stream().allMatch(code -> codeToModule.get(code).getSemesters().contains(semester))) {
+                    allowedDegreePlanners.add(i);
+                }
+            }
+        }
+
+        int getCategoryCredits() {
+            return Arrays.stream(categoryCredits).sum();
+        }
+    }
+
+    /**
+     * A complete plan, which adds each group to the degree planner at its index in {@code assignment}.
+     */
+    private static class Plan {
+        private final int[] assignment;
+        private final int addedCredits;
+
+        Plan(int[] assignment, int addedCredits) {
+            this.assignment = assignment;
+            this.addedCredits = addedCredits;
+        }
+
+        /**
+         * Returns true if this plan adds fewer credits than {@code other}, breaking ties by the assignment of groups.
+         */
+        boolean isBetterThan(Plan other) {
+            return other == null
+                    || addedCredits < other.addedCredits
+                    || (addedCredits == other.addedCredits && Arrays.compare(assignment, other.assignment) < 0);
+        }
+    }
+
+    /**
+     * A partial plan, in which the groups before {@code nextGroup} have been either added or left out.
+     */
+    private class SearchState {
+        private final int[] assignment;
+        private final int[] degreePlannerCredits;
+        private final int[] remainingCredits;
+        private int nextGroup;
+        private int addedCredits;
+
+        SearchState() {
+            assignment = new int[groups.size()];
+            Arrays.fill(assignment, UNASSIGNED);
+            degreePlannerCredits = plannedCredits.clone();
+            remainingCredits = unfulfilledCredits.clone();
+        }
+
+        SearchState(SearchState toBeCopied) {
+            assignment = toBeCopied.assignment.clone();
+            degreePlannerCredits = toBeCopied.degreePlannerCredits.clone();
+            remainingCredits = toBeCopied.remainingCredits.clone();
+            nextGroup = toBeCopied.nextGroup;
+            addedCredits = toBeCopied.addedCredits;
+        }
+
+        /**
+         * Returns true if every requirement category is fulfilled and every degree planner has enough credits.
+         */
+        boolean isComplete() {
+            return Arrays.stream(remainingCredits).allMatch(credits -> credits <= 0)
+                    && Arrays.stream(degreePlannerCredits).allMatch(credits -> credits >= minCredits);
+        }
+
+        /**
+         * Returns true if the remaining groups can still fulfil every requirement category.
+         */
+        boolean canFulfilRequirements() {
+            for (int c = 0; c < remainingCredits.length; c++) {
+                if (remainingCredits[c] > remainingCategoryCredits[nextGroup][c]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns a lower bound on the credits that any complete plan extending this partial plan adds.
+         * Each added credit reduces the unfulfilled credits of a requirement category by at most one, and the credits
+         * of a single degree planner by exactly one.
+         */
+        int getLowerBound() {
+            int mostUnfulfilledCredits = Arrays.stream(remainingCredits).max().orElse(0);
+            int missingDegreePlannerCredits = Arrays.stream(degreePlannerCredits)
+                    .map(credits -> Math.max(0, minCredits - credits)).sum();
+            return addedCredits + Math.max(0, Math.max(mostUnfulfilledCredits, missingDegreePlannerCredits));
+        }
+
+        /**
+         * Returns true if every complete plan extending this partial plan is worse than {@code plan}, either because
+         * it adds more credits, or because it adds as many credits but assigns the groups so far after {@code plan}.
+         */
+        boolean cannotImproveOn(Plan plan) {
+            if (plan == null) {
+                return false;
+            }
+
+            int lowerBound = getLowerBound();
+            return lowerBound > plan.addedCredits
+                    || (lowerBound == plan.addedCredits
+                    && Arrays.compare(assignment, 0, nextGroup, plan.assignment, 0, nextGroup) > 0);
+        }
+
+        /**
+         * Returns the partial plans that add the next group to each degree planner it fits in, followed by the
+         * partial plan that leaves it out.
+         */
+        List<SearchState> expand() {
+            CorequisiteGroup group = groups.get(nextGroup);
+            List<SearchState> children = new ArrayList<>();
+            for (int degreePlanner : group.allowedDegreePlanners) {
+                if (degreePlannerCredits[degreePlanner] + group.credits <= maxCredits) {
+                    SearchState child = new SearchState(this);
+                    child.add(nextGroup, degreePlanner);
+                    child.nextGroup++;
+                    children.add(child);
+                }
+            }
+            SearchState child = new SearchState(this);
+            child.nextGroup++;
+            children.add(child);
+            return children;
+        }
+
+        /**
+         * Searches the plans extending this partial plan depth-first until {@code deadline}, offering the plans found
+         * to {@code bestPlan}.
+         * The groups from {@code nextGroup} onwards form the stack of the search, with the choice to try next for each
+         * group kept in {@code nextChoices}, so that the search does not recurse once per group. A choice is the index
+         * of a degree planner in the allowed degree planners of the group, and the index past them leaves it out.
+         */
+        void search(AtomicReference<Plan> bestPlan, long deadline) {
+            int firstGroup = nextGroup;
+            int[] nextChoices = new int[groups.size()];
+            if (!visit(bestPlan)) {
+                return;
+            }
+
+            nextGroup++;
+            while (nextGroup > firstGroup) {
+                if (System.nanoTime() - deadline > 0) {
+                    backtrackTo(firstGroup);
+                    return;
+                }
+
+                int groupIndex = nextGroup - 1;
+                CorequisiteGroup group = groups.get(groupIndex);
+                if (assignment[groupIndex] != UNASSIGNED) {
+                    remove(groupIndex, assignment[groupIndex]);
+                }
+                int choice = nextChoices[groupIndex]++;
+                if (choice > group.allowedDegreePlanners.size()) {
+                    // Every choice for this group has been tried.
+                    nextChoices[groupIndex] = 0;
+                    nextGroup--;
+                    continue;
+                }
+                if (choice < group.allowedDegreePlanners.size()) {
+                    int degreePlanner = group.allowedDegreePlanners.get(choice);
+                    if (degreePlannerCredits[degreePlanner] + group.credits > maxCredits) {
+                        continue;
+                    }
+                    add(groupIndex, degreePlanner);
+                }
+
+                if (visit(bestPlan)) {
+                    nextGroup++;
+                }
+            }
+        }
+
+        /**
+         * Offers this partial plan to {@code bestPlan} if it is complete, and returns true if the plans extending it
+         * are still worth searching.
+         */
+        private boolean visit(AtomicReference<Plan> bestPlan) {
+            if (isComplete()) {
+                offerTo(bestPlan);
+                return false;
+            }
+            return nextGroup < groups.size() && canFulfilRequirements() && !cannotImproveOn(bestPlan.get());
+        }
+
+        /**
+         * Removes the groups from {@code firstGroup} onwards that have been added during the search.
+         */
+        private void backtrackTo(int firstGroup) {
+            for (int groupIndex = firstGroup; groupIndex < nextGroup; groupIndex++) {
+                if (assignment[groupIndex] != UNASSIGNED) {
+                    remove(groupIndex, assignment[groupIndex]);
+                }
+            }
+            nextGroup = firstGroup;
+        }
+
+        /**
+         * Offers the plan of this state to {@code bestPlan}, replacing it if this plan is better.
+         */
+        void offerTo(AtomicReference<Plan> bestPlan) {
+            Plan plan = new Plan(assignment.clone(), addedCredits);
+            bestPlan.accumulateAndGet(plan, (current, offered) -> offered.isBetterThan(current) ? offered : current);
+        }
+
+        /**
+         * Adds the group at {@code groupIndex} to the degree planner at {@code degreePlanner}.
+         */
+        private void add(int groupIndex, int degreePlanner) {
+            CorequisiteGroup group = groups.get(groupIndex);
+            assignment[groupIndex] = degreePlanner;
+            degreePlannerCredits[degreePlanner] += group.credits;
+            addedCredits += group.credits;
+            for (int c = 0; c < remainingCredits.length; c++) {
+                remainingCredits[c] -= group.categoryCredits[c];
+            }
+        }
+
+        /**
+         * Removes the group at {@code groupIndex} from the degree planner at {@code degreePlanner}.
+         */
+        private void remove(int groupIndex, int degreePlanner) {
+            CorequisiteGroup group = groups.get(groupIndex);
+            assignment[groupIndex] = UNASSIGNED;
+            degreePlannerCredits[degreePlanner] -= group.credits;
+            addedCredits -= group.credits;
+            for (int c = 0; c < remainingCredits.length; c++) {
+                remainingCredits[c] += group.categoryCredits[c];
+            }
+        }
+    }
+}
@@ -5,8 +5,10 @@ import static pwe.planner.logic.parser.ParserUtil.parseKeyword;
 
 import java.util.Set;
 
+import pwe.planner.model.module.IndexedKeywordsPredicate;
 import pwe.planner.model.module.KeywordsPredicate;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleKeywordIndex;
 
 /**
  * Tests that a {@code DegreePlanner}'s {@code Semester} matches any of the keyword given.
@@ -20,6 +22,13 @@ public class SemesterContainsKeywordPredicate<T> implements KeywordsPredicate<T>
         this.keyword = keyword;
     }
 
+    @Override
+    public KeywordsPredicate<T> withKeywordIndex(ModuleKeywordIndex keywordIndex) {
+        requireNonNull(keywordIndex);
+
+        return new IndexedKeywordsPredicate<>(this, keywordIndex, () -> keywordIndex.getCodesMatchingSemester(keyword));
+    }
+
     @Override
     public boolean test(T object) {
         requireNonNull(object);
@@ -43,4 +52,9 @@ public class SemesterContainsKeywordPredicate<T> implements KeywordsPredicate<T>
                 || (other instanceof SemesterContainsKeywordPredicate // instanceof handles nulls
                 && keyword.equals(((SemesterContainsKeywordPredicate) other).keyword)); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
 }
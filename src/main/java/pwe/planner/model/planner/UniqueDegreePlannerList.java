@@ -3,11 +3,16 @@ package pwe.planner.model.planner;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import pwe.planner.commons.util.BatchObservableList;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.planner.exceptions.DegreePlannerNotFoundException;
 import pwe.planner.model.planner.exceptions.DuplicateDegreePlannerException;
@@ -21,14 +26,18 @@ import pwe.planner.model.planner.exceptions.DuplicateDegreePlannerException;
  * the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * A {@code Code} to {@code DegreePlanner} index is maintained alongside the backing list so that the degree planner
+ * holding a module code can be found without scanning every degree planner.
  *
  * @see DegreePlanner#isSameDegreePlanner(DegreePlanner)
  */
 public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
 
-    private final ObservableList<DegreePlanner> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<DegreePlanner> internalList = new BatchObservableList<>();
     private final ObservableList<DegreePlanner> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Code, DegreePlanner> codeToDegreePlannerMap = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent degree planner as the given argument.
@@ -46,10 +55,16 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
     public DegreePlanner getDegreePlannerByCode(Code toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream()
-                .filter(degreePlanner -> degreePlanner.getCodes().contains(toCheck))
-                .findFirst()
-                .orElse(null);
+        return codeToDegreePlannerMap.get(toCheck);
+    }
+
+    /**
+     * Returns true if any degree planner in the list contains the given code.
+     */
+    public boolean containsCode(Code toCheck) {
+        requireNonNull(toCheck);
+
+        return codeToDegreePlannerMap.containsKey(toCheck);
     }
 
     /**
@@ -63,6 +78,7 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
             throw new DuplicateDegreePlannerException();
         }
         internalList.add(toAdd);
+        indexCodes(toAdd);
     }
 
     /**
@@ -84,6 +100,8 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
         }
 
         internalList.set(index, editedDegreePlanner);
+        unindexCodes(target);
+        indexCodes(editedDegreePlanner);
     }
 
     /**
@@ -96,12 +114,35 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
         if (!internalList.remove(toRemove)) {
             throw new DegreePlannerNotFoundException();
         }
+        unindexCodes(toRemove);
+    }
+
+    /**
+     * Replaces the degree planners from index {@code from} (inclusive) to index {@code to} (exclusive) with
+     * {@code replacement}.
+     * This is used to revert or reapply a recorded change to this list, so {@code replacement} is expected to
+     * keep the list free of duplicate degree planners.
+     */
+    public void replaceRange(int from, int to, List<DegreePlanner> replacement) {
+        requireAllNonNull(replacement);
+
+        List<DegreePlanner> range = internalList.subList(from, to);
+        range.forEach(this::unindexCodes);
+        internalList.beginBatch();
+        try {
+            range.clear();
+            internalList.addAll(from, replacement);
+        } finally {
+            internalList.endBatch();
+        }
+        replacement.forEach(this::indexCodes);
     }
 
     public void setDegreePlanners(UniqueDegreePlannerList replacement) {
         requireNonNull(replacement);
 
         internalList.setAll(replacement.internalList);
+        rebuildCodeToDegreePlannerMap();
     }
 
     /**
@@ -116,6 +157,50 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
         }
 
         internalList.setAll(degreePlanners);
+        rebuildCodeToDegreePlannerMap();
+    }
+
+    /**
+     * Maps every code in {@code degreePlanner} to {@code degreePlanner}.
+     * Codes already held by an earlier degree planner keep their existing mapping.
+     */
+    private void indexCodes(DegreePlanner degreePlanner) {
+        for (Code code : degreePlanner.getCodes()) {
+            codeToDegreePlannerMap.putIfAbsent(code, degreePlanner);
+        }
+    }
+
+    /**
+     * Removes the mappings of every code in {@code degreePlanner} that points to {@code degreePlanner}.
+     */
+    private void unindexCodes(DegreePlanner degreePlanner) {
+        for (Code code : degreePlanner.getCodes()) {
+            codeToDegreePlannerMap.remove(code, degreePlanner);
+        }
+    }
+
+    /**
+     * Rebuilds the {@code Code} to {@code DegreePlanner} index from the backing list.
+     */
+    private void rebuildCodeToDegreePlannerMap() {
+        codeToDegreePlannerMap.clear();
+        internalList.forEach(this::indexCodes);
+    }
+
+    /**
+     * Begins a batch of modifications to this list.
+     * Observers of this list are notified of all the modifications made within the batch through a single change
+     * when the outermost batch ends.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch of modifications begun with {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -146,11 +231,12 @@ public class UniqueDegreePlannerList implements Iterable<DegreePlanner> {
      * Returns true if {@code degreePlanners} contains only unique degreePlanner.
      */
     private boolean degreePlannersAreUnique(List<DegreePlanner> degreePlanners) {
-        for (int i = 0; i < degreePlanners.size() - 1; i++) {
-            for (int j = i + 1; j < degreePlanners.size(); j++) {
-                if (degreePlanners.get(i).isSameDegreePlanner(degreePlanners.get(j))) {
-                    return false;
-                }
+        Map<Year, Set<Semester>> semestersOfYears = new HashMap<>();
+        for (DegreePlanner degreePlanner : degreePlanners) {
+            Set<Semester> semesters =
+                    semestersOfYears.computeIfAbsent(degreePlanner.getYear(), unused -> new HashSet<>());
+            if (!semesters.add(degreePlanner.getSemester())) {
+                return false;
             }
         }
         return true;
@@ -32,4 +32,9 @@ public class YearContainsKeywordPredicate<T> implements KeywordsPredicate<T> {
                 || (other instanceof YearContainsKeywordPredicate // instanceof handles nulls
                 && keyword.equals(((YearContainsKeywordPredicate) other).keyword)); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
 }
@@ -0,0 +1,10 @@
+package pwe.planner.model.planner.exceptions;
+
+/**
+ * Signals that the search for a degree plan failed unexpectedly.
+ */
+public class DegreePlanGenerationException extends RuntimeException {
+    public DegreePlanGenerationException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -3,12 +3,18 @@ package pwe.planner.model.requirement;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import pwe.planner.commons.util.BatchObservableList;
 import pwe.planner.commons.util.StringUtil;
+import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.requirement.exceptions.DuplicateRequirementCategoryException;
 import pwe.planner.model.requirement.exceptions.RequirementCategoryNotFoundException;
@@ -27,14 +33,18 @@ import pwe.planner.model.requirement.exceptions.RequirementCategoryNotFoundExcep
  * the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * A {@code Code} to {@code RequirementCategory} index is maintained alongside the backing list so that the
+ * requirement category holding a module code can be found without scanning every requirement category.
  *
  * @see RequirementCategory#isSameRequirementCategory(RequirementCategory)
  */
 public class UniqueRequirementCategoryList implements Iterable<RequirementCategory> {
 
-    private final ObservableList<RequirementCategory> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<RequirementCategory> internalList = new BatchObservableList<>();
     private final ObservableList<RequirementCategory> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Code, RequirementCategory> codeToRequirementCategoryMap = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent Name as the given argument.
@@ -67,6 +77,15 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
                 .orElse(null);
     }
 
+    /**
+     * Returns the RequirementCategory in the internalList which contains the given code, otherwise returns null.
+     */
+    public RequirementCategory getRequirementCategoryByCode(Code toCheck) {
+        requireNonNull(toCheck);
+
+        return codeToRequirementCategoryMap.get(toCheck);
+    }
+
     /**
      * Adds a requirement to the list.
      * The requirement must not already exist in the list.
@@ -78,6 +97,7 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
             throw new DuplicateRequirementCategoryException();
         }
         internalList.add(toAdd);
+        indexCodes(toAdd);
     }
 
     /**
@@ -100,6 +120,8 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
         }
 
         internalList.set(index, editedRequirementCategory);
+        unindexCodes(target);
+        indexCodes(editedRequirementCategory);
     }
 
     /**
@@ -112,12 +134,35 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
         if (!internalList.remove(toRemove)) {
             throw new RequirementCategoryNotFoundException();
         }
+        unindexCodes(toRemove);
+    }
+
+    /**
+     * Replaces the requirement categories from index {@code from} (inclusive) to index {@code to} (exclusive) with
+     * {@code replacement}.
+     * This is used to revert or reapply a recorded change to this list, so {@code replacement} is expected to
+     * keep the list free of duplicate requirement categories.
+     */
+    public void replaceRange(int from, int to, List<RequirementCategory> replacement) {
+        requireAllNonNull(replacement);
+
+        List<RequirementCategory> range = internalList.subList(from, to);
+        range.forEach(this::unindexCodes);
+        internalList.beginBatch();
+        try {
+            range.clear();
+            internalList.addAll(from, replacement);
+        } finally {
+            internalList.endBatch();
+        }
+        replacement.forEach(this::indexCodes);
     }
 
     public void setRequirementCategories(UniqueRequirementCategoryList replacement) {
         requireNonNull(replacement);
 
         internalList.setAll(replacement.internalList);
+        rebuildCodeToRequirementCategoryMap();
     }
 
     /**
@@ -132,6 +177,50 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
         }
 
         internalList.setAll(requirementCategories);
+        rebuildCodeToRequirementCategoryMap();
+    }
+
+    /**
+     * Maps every code in {@code requirementCategory} to {@code requirementCategory}.
+     * Codes already held by an earlier requirement category keep their existing mapping.
+     */
+    private void indexCodes(RequirementCategory requirementCategory) {
+        for (Code code : requirementCategory.getCodeSet()) {
+            codeToRequirementCategoryMap.putIfAbsent(code, requirementCategory);
+        }
+    }
+
+    /**
+     * Removes the mappings of every code in {@code requirementCategory} that points to {@code requirementCategory}.
+     */
+    private void unindexCodes(RequirementCategory requirementCategory) {
+        for (Code code : requirementCategory.getCodeSet()) {
+            codeToRequirementCategoryMap.remove(code, requirementCategory);
+        }
+    }
+
+    /**
+     * Rebuilds the {@code Code} to {@code RequirementCategory} index from the backing list.
+     */
+    private void rebuildCodeToRequirementCategoryMap() {
+        codeToRequirementCategoryMap.clear();
+        internalList.forEach(this::indexCodes);
+    }
+
+    /**
+     * Begins a batch of modifications to this list.
+     * Observers of this list are notified of all the modifications made within the batch through a single change
+     * when the outermost batch ends.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch of modifications begun with {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -162,11 +251,10 @@ public class UniqueRequirementCategoryList implements Iterable<RequirementCatego
      * Returns true if {@code requirement} contains only unique requirement modules.
      */
     private boolean requirementCategoriesAreUnique(List<RequirementCategory> requirementCategories) {
-        for (int i = 0; i < requirementCategories.size() - 1; i++) {
-            for (int j = i + 1; j < requirementCategories.size(); j++) {
-                if (requirementCategories.get(i).isSameRequirementCategory(requirementCategories.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (RequirementCategory requirementCategory : requirementCategories) {
+            if (!names.add(requirementCategory.getName())) {
+                return false;
             }
         }
         return true;
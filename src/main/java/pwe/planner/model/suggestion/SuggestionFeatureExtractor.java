@@ -0,0 +1,93 @@
+package pwe.planner.model.suggestion;
+
+import static java.lang.Math.abs;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleKeywordIndex;
+import pwe.planner.model.module.TagMatchCounts;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.tag.Tag;
+
+/**
+ * Computes the {@code SuggestionFeatures} of the modules in an application.
+ */
+public class SuggestionFeatureExtractor {
+
+    /**
+     * Returns the features of every module in {@code application} that is not in a degree planner, in the order of
+     * the module list, for suggesting modules with {@code bestCredits} and {@code tagsToFind}.
+     * {@code keywordIndex} must be the keyword index of the modules in {@code application}.
+     */
+    public static List<SuggestionFeatures> extract(ReadOnlyApplication application, ModuleKeywordIndex keywordIndex,
+            Credits bestCredits, Set<Tag> tagsToFind) {
+        requireAllNonNull(application, keywordIndex, bestCredits, tagsToFind);
+
+        Set<Code> plannerCodes = new HashSet<>();
+        application.getDegreePlannerList().stream().map(DegreePlanner::getCodes).forEach(plannerCodes::addAll);
+        Optional<Semester> nextSemester = application.getDegreePlannerList().stream()
+                .filter(degreePlanner -> degreePlanner.getCodes().isEmpty())
+                .min(DegreePlanner::compareTo)
+                .map(DegreePlanner::getSemester);
+        Map<Code, Integer> unfulfilledRequirementCredits = getUnfulfilledRequirementCredits(application, plannerCodes);
+        TagMatchCounts tagMatchCounts = keywordIndex.countMatchingTags(tagsToFind);
+        int credits = bestCredits.intValue();
+
+        List<SuggestionFeatures> features = new ArrayList<>();
+        for (Module module : application.getModuleList()) {
+            Code code = module.getCode();
+            if (plannerCodes.contains(code)) {
+                continue;
+            }
+
+            int creditDifference = abs(module.getCredits().intValue() - credits);
+            boolean isOfferedInNextSemester = nextSemester.isPresent()
+                    && module.getSemesters().contains(nextSemester.get());
+            features.add(new SuggestionFeatures(code, tagMatchCounts.getCount(code), creditDifference,
+                    isOfferedInNextSemester, unfulfilledRequirementCredits.getOrDefault(code, 0)));
+        }
+        return Collections.unmodifiableList(features);
+    }
+
+    /**
+     * Returns the total credits still required by the requirement categories of each module code, given the codes of
+     * the modules in degree planners.
+     */
+    private static Map<Code, Integer> getUnfulfilledRequirementCredits(ReadOnlyApplication application,
+            Set<Code> plannerCodes) {
+        Map<Code, Module> plannedModules = new HashMap<>();
+        for (Module module : application.getModuleList()) {
+            if (plannerCodes.contains(module.getCode())) {
+                plannedModules.put(module.getCode(), module);
+            }
+        }
+
+        Map<Code, Integer> unfulfilledRequirementCredits = new HashMap<>();
+        for (RequirementCategory requirementCategory : application.getRequirementCategoryList()) {
+            int plannedCredits = Credits.sum(requirementCategory.getCodeSet(), plannedModules::get);
+            int unfulfilledCredits = requirementCategory.getCredits().intValue() - plannedCredits;
+            if (unfulfilledCredits <= 0) {
+                continue;
+            }
+
+            for (Code code : requirementCategory.getCodeSet()) {
+                unfulfilledRequirementCredits.merge(code, unfulfilledCredits, Integer::sum);
+            }
+        }
+        return unfulfilledRequirementCredits;
+    }
+}
@@ -0,0 +1,96 @@
+package pwe.planner.model.suggestion;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import pwe.planner.model.module.Code;
+
+/**
+ * Represents the features of a module that are considered when suggesting modules to take.
+ * Guarantees: immutable.
+ */
+public class SuggestionFeatures {
+    private final Code code;
+    private final int numberOfMatchingTags;
+    private final int creditDifference;
+    private final boolean isOfferedInNextSemester;
+    private final int unfulfilledRequirementCredits;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public SuggestionFeatures(Code code, int numberOfMatchingTags, int creditDifference,
+            boolean isOfferedInNextSemester, int unfulfilledRequirementCredits) {
+        requireNonNull(code);
+
+        this.code = code;
+        this.numberOfMatchingTags = numberOfMatchingTags;
+        this.creditDifference = creditDifference;
+        this.isOfferedInNextSemester = isOfferedInNextSemester;
+        this.unfulfilledRequirementCredits = unfulfilledRequirementCredits;
+    }
+
+    public Code getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the number of tags to find that the module has.
+     */
+    public int getNumberOfMatchingTags() {
+        return numberOfMatchingTags;
+    }
+
+    /**
+     * Returns the absolute difference between the credits of the module and the credits to find.
+     */
+    public int getCreditDifference() {
+        return creditDifference;
+    }
+
+    /**
+     * Returns true if the module is offered in the semester of the earliest degree planner without modules.
+     */
+    public boolean isOfferedInNextSemester() {
+        return isOfferedInNextSemester;
+    }
+
+    /**
+     * Returns the total credits still required by the requirement categories that the module belongs to.
+     */
+    public int getUnfulfilledRequirementCredits() {
+        return unfulfilledRequirementCredits;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SuggestionFeatures)) {
+            return false;
+        }
+
+        SuggestionFeatures otherFeatures = (SuggestionFeatures) other;
+        return code.equals(otherFeatures.code)
+                && numberOfMatchingTags == otherFeatures.numberOfMatchingTags
+                && creditDifference == otherFeatures.creditDifference
+                && isOfferedInNextSemester == otherFeatures.isOfferedInNextSemester
+                && unfulfilledRequirementCredits == otherFeatures.unfulfilledRequirementCredits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(code, numberOfMatchingTags, creditDifference, isOfferedInNextSemester,
+                unfulfilledRequirementCredits);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%1$s (tags: %2$d, credit difference: %3$d, offered next semester: %4$b, "
+                + "unfulfilled requirement credits: %5$d)", code, numberOfMatchingTags, creditDifference,
+                isOfferedInNextSemester, unfulfilledRequirementCredits);
+    }
+}
@@ -0,0 +1,14 @@
+package pwe.planner.model.suggestion;
+
+/**
+ * Scores modules to suggest from their {@code SuggestionFeatures}. Modules with higher scores are more recommended.
+ * Implementations must be thread-safe, as modules may be scored in parallel.
+ */
+@FunctionalInterface
+public interface SuggestionScorer {
+
+    /**
+     * Returns the score of the module with {@code features}.
+     */
+    long score(SuggestionFeatures features);
+}
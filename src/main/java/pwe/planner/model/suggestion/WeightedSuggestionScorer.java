@@ -0,0 +1,69 @@
+package pwe.planner.model.suggestion;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * A {@code SuggestionScorer} that scores a module by the weighted sum of its features.
+ * Guarantees: immutable.
+ */
+public class WeightedSuggestionScorer implements SuggestionScorer {
+
+    /**
+     * Ranks modules by their number of matching tags, then by how close their credits are to the credits to find.
+     * A matching tag outweighs the largest possible credit difference of 999 credits.
+     */
+    public static final WeightedSuggestionScorer DEFAULT = new WeightedSuggestionScorer(1000, -1, 0, 0);
+
+    private final long matchingTagWeight;
+    private final long creditDifferenceWeight;
+    private final long nextSemesterWeight;
+    private final long unfulfilledRequirementCreditWeight;
+
+    /**
+     * Creates a {@code WeightedSuggestionScorer} that adds {@code matchingTagWeight} for each matching tag,
+     * {@code creditDifferenceWeight} for each credit of difference, {@code nextSemesterWeight} if the module is offered
+     * in the next semester and {@code unfulfilledRequirementCreditWeight} for each unfulfilled requirement credit.
+     */
+    public WeightedSuggestionScorer(long matchingTagWeight, long creditDifferenceWeight, long nextSemesterWeight,
+            long unfulfilledRequirementCreditWeight) {
+        this.matchingTagWeight = matchingTagWeight;
+        this.creditDifferenceWeight = creditDifferenceWeight;
+        this.nextSemesterWeight = nextSemesterWeight;
+        this.unfulfilledRequirementCreditWeight = unfulfilledRequirementCreditWeight;
+    }
+
+    @Override
+    public long score(SuggestionFeatures features) {
+        requireNonNull(features);
+
+        return matchingTagWeight * features.getNumberOfMatchingTags()
+                + creditDifferenceWeight * features.getCreditDifference()
+                + (features.isOfferedInNextSemester() ? nextSemesterWeight : 0)
+                + unfulfilledRequirementCreditWeight * features.getUnfulfilledRequirementCredits();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof WeightedSuggestionScorer)) {
+            return false;
+        }
+
+        WeightedSuggestionScorer otherScorer = (WeightedSuggestionScorer) other;
+        return matchingTagWeight == otherScorer.matchingTagWeight
+                && creditDifferenceWeight == otherScorer.creditDifferenceWeight
+                && nextSemesterWeight == otherScorer.nextSemesterWeight
+                && unfulfilledRequirementCreditWeight == otherScorer.unfulfilledRequirementCreditWeight;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(matchingTagWeight, creditDifferenceWeight, nextSemesterWeight,
+                unfulfilledRequirementCreditWeight);
+    }
+}
@@ -0,0 +1,174 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+
+/**
+ * Saves an application to an {@code ApplicationStorage} in the background.
+ *
+ * A save takes a snapshot of the application on the calling thread, and writes the snapshot on a background thread.
+ * Saves requested while an earlier save is still waiting to be written are coalesced, so that only the latest
+ * snapshot is written. The background thread is a daemon thread, so {@link #shutdown()} should be called before the
+ * application exits to write any pending save.
+ */
+public class ApplicationSaver {
+    private static final Logger logger = LogsCenter.getLogger(ApplicationSaver.class);
+
+    private final ApplicationStorage storage;
+    private final Executor resultNotifier;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ApplicationSaver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<ReadOnlyApplication> pendingSnapshot = new AtomicReference<>();
+    private final SimpleObjectProperty<SaveResult> saveResult = new SimpleObjectProperty<>();
+
+    /**
+     * Creates a saver that updates {@link #saveResultProperty()} on the JavaFX application thread.
+     */
+    public ApplicationSaver(ApplicationStorage storage) {
+        this(storage, Platform::runLater);
+    }
+
+    /**
+     * Creates a saver that updates {@link #saveResultProperty()} by running the update with {@code resultNotifier}.
+     */
+    public ApplicationSaver(ApplicationStorage storage, Executor resultNotifier) {
+        requireAllNonNull(storage, resultNotifier);
+
+        this.storage = storage;
+        this.resultNotifier = resultNotifier;
+    }
+
+    /**
+     * Saves a snapshot of {@code application} in the background.
+     * The snapshot is taken before this method returns, so {@code application} may be modified afterwards.
+     */
+    public void save(ReadOnlyApplication application) {
+        requireNonNull(application);
+
+        // Only schedules a write if there is none waiting, as the waiting write will write the latest snapshot
+        if (pendingSnapshot.getAndSet(new ApplicationSnapshot(application)) == null) {
+            executor.execute(this::writePendingSnapshot);
+        }
+    }
+
+    /**
+     * Blocks until every save requested before this method is called has been written.
+     * The update of {@link #saveResultProperty()} for those saves may still be waiting to run on the
+     * {@code resultNotifier}. This method must not be called after {@link #shutdown()}.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("An empty task should not fail.", ee);
+        }
+    }
+
+    /**
+     * Writes every save requested before this method is called, and stops saving in the background.
+     * Calling this method again has no further effect.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the result of the latest save that has been written, or a property holding null if none has.
+     * The property is set to a new result once each write completes, but only through the {@code resultNotifier} of
+     * this saver, which is the JavaFX application thread by default.
+     */
+    public ReadOnlyProperty<SaveResult> saveResultProperty() {
+        return saveResult;
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyApplication snapshot = pendingSnapshot.getAndSet(null);
+        try {
+            storage.saveApplication(snapshot);
+            publishSaveResult(SaveResult.success());
+        } catch (IOException ioe) {
+            logger.warning("Failed to save application " + StringUtil.getDetails(ioe));
+            publishSaveResult(SaveResult.failure(ioe));
+        }
+    }
+
+    private void publishSaveResult(SaveResult result) {
+        resultNotifier.execute(() -> saveResult.setValue(result));
+    }
+
+    /**
+     * An immutable copy of the lists of an application.
+     * As the elements of the lists are immutable, copying the lists is sufficient to take a consistent snapshot.
+     */
+    private static class ApplicationSnapshot implements ReadOnlyApplication {
+        private final ObservableList<Module> modules;
+        private final ObservableList<DegreePlanner> degreePlanners;
+        private final ObservableList<RequirementCategory> requirementCategories;
+
+        ApplicationSnapshot(ReadOnlyApplication application) {
+            modules = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(application.getModuleList()));
+            degreePlanners = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(application.getDegreePlannerList()));
+            requirementCategories = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(application.getRequirementCategoryList()));
+        }
+
+        @Override
+        public ObservableList<Module> getModuleList() {
+            return modules;
+        }
+
+        @Override
+        public ObservableList<DegreePlanner> getDegreePlannerList() {
+            return degreePlanners;
+        }
+
+        @Override
+        public ObservableList<RequirementCategory> getRequirementCategoryList() {
+            return requirementCategories;
+        }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            // a snapshot is never modified
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            // a snapshot is never modified
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import pwe.planner.commons.core.LogsCenter;
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.model.Application;
+import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.module.Name;
+import pwe.planner.model.module.exceptions.DuplicateModuleException;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.planner.Semester;
+import pwe.planner.model.planner.Year;
+import pwe.planner.model.planner.exceptions.DuplicateDegreePlannerException;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.requirement.exceptions.DuplicateRequirementCategoryException;
+import pwe.planner.model.tag.Tag;
+
+/**
+ * Stores a snapshot of the application in a compact binary format.
+ * <br><br>
+ * Format (all integers are 4-byte big-endian, and all longs are 8-byte big-endian):<br>
+ * - Header: {@link #MAGIC_NUMBER}, {@link #VERSION}, the number of data files, followed by the size and the last
+ *   modified time in milliseconds of each data file as longs, when the snapshot was saved.<br>
+ * - String table: the number of strings, followed by each distinct string in modified UTF-8, prefixed by its length.
+ * <br>
+ * - Modules, degree planners and requirement categories: the number of elements, followed by each element.
+ *   Every value of an element is written as the index of its string in the string table, and every set of values
+ *   is prefixed by its size.<br>
+ * <br>
+ * As codes, semesters and tags are repeated across elements, each distinct value is created only once when reading.
+ * The snapshot is written only from a valid application, so the data constraints checked when reading the data files
+ * are not checked again. The snapshot is only read if every data file still has the size and last modified time
+ * recorded in its header, so that a data file edited by hand is read instead.
+ */
+public class BinarySnapshotStorage implements SnapshotStorage {
+
+    public static final String DEFAULT_SNAPSHOT_FILE_NAME = "application.snapshot";
+
+    static final int MAGIC_NUMBER = 0x50574553;
+    static final int VERSION = 2;
+
+    static final String MESSAGE_INVALID_HEADER =
+            "The snapshot file is not a snapshot, or is of an unsupported version.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySnapshotStorage.class);
+
+    private final Path snapshotFilePath;
+
+    public BinarySnapshotStorage(Path snapshotFilePath) {
+        requireNonNull(snapshotFilePath);
+
+        this.snapshotFilePath = snapshotFilePath;
+    }
+
+    @Override
+    public Path getSnapshotFilePath() {
+        return snapshotFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyApplication> readSnapshot(List<Path> dataFilePaths)
+            throws DataConversionException, IOException {
+        requireNonNull(dataFilePaths);
+
+        if (!Files.exists(snapshotFilePath)) {
+            logger.info("Snapshot file " + snapshotFilePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(snapshotFilePath)))) {
+            if (input.readInt() != MAGIC_NUMBER || input.readInt() != VERSION) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_INVALID_HEADER));
+            }
+            if (!isSnapshotOf(input, dataFilePaths)) {
+                logger.info("Snapshot file " + snapshotFilePath + " is not a snapshot of the current data files");
+                return Optional.empty();
+            }
+            return Optional.of(new SnapshotReader(input).readApplication());
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DuplicateModuleException
+                | DuplicateDegreePlannerException | DuplicateRequirementCategoryException e) {
+            // a corrupted snapshot may contain invalid values, invalid string indices or duplicate elements
+            logger.warning("Illegal values found in " + snapshotFilePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveSnapshot(ReadOnlyApplication application, List<Path> dataFilePaths) throws IOException {
+        requireAllNonNull(application, dataFilePaths);
+
+        // The elements are written first, as the string table is only complete once every element is written
+        StringTable stringTable = new StringTable();
+        ByteArrayOutputStream elements = new ByteArrayOutputStream();
+        DataOutputStream elementsOutput = new DataOutputStream(elements);
+        writeModules(elementsOutput, stringTable, application.getModuleList());
+        writeDegreePlanners(elementsOutput, stringTable, application.getDegreePlannerList());
+        writeRequirementCategories(elementsOutput, stringTable, application.getRequirementCategoryList());
+
+        FileUtil.createIfMissing(snapshotFilePath);
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(snapshotFilePath)))) {
+            output.writeInt(MAGIC_NUMBER);
+            output.writeInt(VERSION);
+            output.writeInt(dataFilePaths.size());
+            for (Path dataFilePath : dataFilePaths) {
+                output.writeLong(Files.size(dataFilePath));
+                output.writeLong(Files.getLastModifiedTime(dataFilePath).toMillis());
+            }
+            stringTable.write(output);
+            elements.writeTo(output);
+        }
+    }
+
+    /**
+     * Returns true if the header read from {@code input} records the same number of data files as
+     * {@code dataFilePaths}, and the same size and last modified time as each of the data files currently has.
+     */
+    private static boolean isSnapshotOf(DataInputStream input, List<Path> dataFilePaths) throws IOException {
+        if (input.readInt() != dataFilePaths.size()) {
+            return false;
+        }
+
+        for (Path dataFilePath : dataFilePaths) {
+            long size = input.readLong();
+            long lastModifiedMillis = input.readLong();
+            if (!Files.exists(dataFilePath) || Files.size(dataFilePath) != size
+                    || Files.getLastModifiedTime(dataFilePath).toMillis() != lastModifiedMillis) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeModules(DataOutputStream output, StringTable stringTable, List<Module> modules)
+            throws IOException {
+        output.writeInt(modules.size());
+        for (Module module : modules) {
+            output.writeInt(stringTable.indexOf(module.getCode().value));
+            output.writeInt(stringTable.indexOf(module.getName().fullName));
+            output.writeInt(stringTable.indexOf(module.getCredits().value));
+            writeValues(output, stringTable, module.getSemesters(), semester -> semester.plannerSemester);
+            writeValues(output, stringTable, module.getCorequisites(), code -> code.value);
+            writeValues(output, stringTable, module.getTags(), tag -> tag.tagName);
+        }
+    }
+
+    private static void writeDegreePlanners(DataOutputStream output, StringTable stringTable,
+            List<DegreePlanner> degreePlanners) throws IOException {
+        output.writeInt(degreePlanners.size());
+        for (DegreePlanner degreePlanner : degreePlanners) {
+            output.writeInt(stringTable.indexOf(degreePlanner.getYear().year));
+            output.writeInt(stringTable.indexOf(degreePlanner.getSemester().plannerSemester));
+            writeValues(output, stringTable, degreePlanner.getCodes(), code -> code.value);
+        }
+    }
+
+    private static void writeRequirementCategories(DataOutputStream output, StringTable stringTable,
+            List<RequirementCategory> requirementCategories) throws IOException {
+        output.writeInt(requirementCategories.size());
+        for (RequirementCategory requirementCategory : requirementCategories) {
+            output.writeInt(stringTable.indexOf(requirementCategory.getName().fullName));
+            output.writeInt(stringTable.indexOf(requirementCategory.getCredits().value));
+            writeValues(output, stringTable, requirementCategory.getCodeSet(), code -> code.value);
+        }
+    }
+
+    /**
+     * Writes the size of {@code values}, followed by the index of the string of each value.
+     */
+    private static <T> void writeValues(DataOutputStream output, StringTable stringTable, Collection<T> values,
+            Function<T, String> toString) throws IOException {
+        output.writeInt(values.size());
+        for (T value : values) {
+            output.writeInt(stringTable.indexOf(toString.apply(value)));
+        }
+    }
+
+    /**
+     * Assigns an index to each distinct string written to a snapshot, in the order they are first written.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indices = new LinkedHashMap<>();
+
+        int indexOf(String string) {
+            return indices.computeIfAbsent(string, unused -> indices.size());
+        }
+
+        void write(DataOutputStream output) throws IOException {
+            output.writeInt(indices.size());
+            for (String string : indices.keySet()) {
+                output.writeUTF(string);
+            }
+        }
+    }
+
+    /**
+     * Reads the string table and elements of a snapshot, creating each distinct code, semester and tag only once.
+     */
+    private static class SnapshotReader {
+        private final DataInputStream input;
+        private final List<String> strings;
+        private final Map<String, Code> codes = new HashMap<>();
+        private final Map<String, Semester> semesters = new HashMap<>();
+        private final Map<String, Tag> tags = new HashMap<>();
+
+        SnapshotReader(DataInputStream input) throws IOException {
+            this.input = input;
+
+            // The list is not presized, as a corrupted snapshot may have an arbitrarily large number of strings
+            strings = new ArrayList<>();
+            for (int i = input.readInt(); i > 0; i--) {
+                strings.add(input.readUTF());
+            }
+        }
+
+        Application readApplication() throws IOException {
+            List<Module> modules = new ArrayList<>();
+            for (int i = input.readInt(); i > 0; i--) {
+                Code code = readValue(codes, Code::new);
+                Name name = new Name(readString());
+                Credits credits = new Credits(readString());
+                Set<Semester> moduleSemesters = readValues(semesters, Semester::new);
+                Set<Code> corequisites = readValues(codes, Code::new);
+                Set<Tag> moduleTags = readValues(tags, Tag::new);
+                modules.add(new Module(code, name, credits, moduleSemesters, corequisites, moduleTags));
+            }
+
+            List<DegreePlanner> degreePlanners = new ArrayList<>();
+            for (int i = input.readInt(); i > 0; i--) {
+                Year year = new Year(readString());
+                Semester semester = readValue(semesters, Semester::new);
+                degreePlanners.add(new DegreePlanner(year, semester, readValues(codes, Code::new)));
+            }
+
+            List<RequirementCategory> requirementCategories = new ArrayList<>();
+            for (int i = input.readInt(); i > 0; i--) {
+                Name name = new Name(readString());
+                Credits credits = new Credits(readString());
+                requirementCategories.add(new RequirementCategory(name, credits, readValues(codes, Code::new)));
+            }
+
+            Application application = new Application();
+            application.setModules(modules);
+            application.setRequirementCategories(requirementCategories);
+            application.setDegreePlanners(degreePlanners);
+            return application;
+        }
+
+        private String readString() throws IOException {
+            return strings.get(input.readInt());
+        }
+
+        private <T> T readValue(Map<String, T> values, Function<String, T> constructor) throws IOException {
+            return values.computeIfAbsent(readString(), constructor);
+        }
+
+        private <T> Set<T> readValues(Map<String, T> values, Function<String, T> constructor) throws IOException {
+            Set<T> set = new HashSet<>();
+            for (int i = input.readInt(); i > 0; i--) {
+                set.add(readValue(values, constructor));
+            }
+            return set;
+        }
+    }
+}
@@ -5,6 +5,8 @@ import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -29,14 +31,24 @@ public class JsonApplicationStorage implements ApplicationStorage {
     private Path moduleListFilePath;
     private Path degreePlannerListFilePath;
     private Path requirementCategoryListFilePath;
+    private final boolean isCompact;
 
     public JsonApplicationStorage(Path moduleListFilePath, Path degreePlannerListFilePath,
             Path requirementCategoryListFilePath) {
+        this(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath, false);
+    }
+
+    /**
+     * @param isCompact if true, the data files are saved without indentation.
+     */
+    public JsonApplicationStorage(Path moduleListFilePath, Path degreePlannerListFilePath,
+            Path requirementCategoryListFilePath, boolean isCompact) {
         requireAllNonNull(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
 
         this.moduleListFilePath = moduleListFilePath;
         this.degreePlannerListFilePath = degreePlannerListFilePath;
         this.requirementCategoryListFilePath = requirementCategoryListFilePath;
+        this.isCompact = isCompact;
     }
 
     public Path getModuleListFilePath() {
@@ -115,14 +127,15 @@ public class JsonApplicationStorage implements ApplicationStorage {
     public Optional<ObservableList<Module>> readModuleList(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableModuleList> jsonAppliction = JsonUtil.readJsonFile(
-                filePath, JsonSerializableApplication.getJsonSerializableModuleListClass());
-        if (!jsonAppliction.isPresent()) {
-            return Optional.empty();
-        }
-
+        // Converts each element as it is read, so that only the model's objects are held in memory
+        List<Module> moduleList = new ArrayList<>();
         try {
-            return Optional.of(jsonAppliction.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableModuleList.MODULES_FIELD,
+                    JsonAdaptedModule.class, jsonAdaptedModule -> moduleList.add(jsonAdaptedModule.toModelType()));
+            if (!isFound) {
+                return Optional.empty();
+            }
+            return Optional.of(JsonSerializableModuleList.toUniqueModuleList(moduleList));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -143,7 +156,7 @@ public class JsonApplicationStorage implements ApplicationStorage {
         requireAllNonNull(application, filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableModuleList(application), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableModuleList(application), filePath, isCompact);
     }
 
     @Override
@@ -158,14 +171,15 @@ public class JsonApplicationStorage implements ApplicationStorage {
             throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableDegreePlannerList> jsonApplication = JsonUtil.readJsonFile(
-                filePath, JsonSerializableApplication.getJsonSerializableDegreePlannerListClass());
-        if (!jsonApplication.isPresent()) {
-            return Optional.empty();
-        }
-
+        List<DegreePlanner> degreePlannerList = new ArrayList<>();
         try {
-            return Optional.of(jsonApplication.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath,
+                    JsonSerializableDegreePlannerList.DEGREE_PLANNERS_FIELD, JsonAdaptedDegreePlanner.class,
+                    jsonAdaptedDegreePlanner -> degreePlannerList.add(jsonAdaptedDegreePlanner.toModelType()));
+            if (!isFound) {
+                return Optional.empty();
+            }
+            return Optional.of(JsonSerializableDegreePlannerList.toUniqueDegreePlannerList(degreePlannerList));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -190,7 +204,7 @@ public class JsonApplicationStorage implements ApplicationStorage {
         FileUtil.createIfMissing(filePath);
         JsonSerializableDegreePlannerList serializedDegreePlannerList =
                 new JsonSerializableDegreePlannerList(application.getDegreePlannerList());
-        JsonUtil.saveJsonFile(serializedDegreePlannerList, filePath);
+        JsonUtil.saveJsonFile(serializedDegreePlannerList, filePath, isCompact);
     }
 
     @Override
@@ -205,14 +219,17 @@ public class JsonApplicationStorage implements ApplicationStorage {
             throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableRequirementCategoryList> jsonApplication = JsonUtil.readJsonFile(
-                filePath, JsonSerializableApplication.getJsonSerializableRequirementCategoryListClass());
-        if (!jsonApplication.isPresent()) {
-            return Optional.empty();
-        }
-
+        List<RequirementCategory> requirementCategoryList = new ArrayList<>();
         try {
-            return Optional.of(jsonApplication.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath,
+                    JsonSerializableRequirementCategoryList.REQUIREMENT_CATEGORIES_FIELD,
+                    JsonAdaptedRequirementCategory.class, jsonAdaptedRequirementCategory ->
+                            requirementCategoryList.add(jsonAdaptedRequirementCategory.toModelType()));
+            if (!isFound) {
+                return Optional.empty();
+            }
+            return Optional.of(
+                    JsonSerializableRequirementCategoryList.toUniqueRequirementCategoryList(requirementCategoryList));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -237,7 +254,7 @@ public class JsonApplicationStorage implements ApplicationStorage {
         FileUtil.createIfMissing(filePath);
         JsonSerializableRequirementCategoryList serializedRequirementCategoryList =
                 new JsonSerializableRequirementCategoryList(application.getRequirementCategoryList());
-        JsonUtil.saveJsonFile(serializedRequirementCategoryList, filePath);
+        JsonUtil.saveJsonFile(serializedRequirementCategoryList, filePath, isCompact);
     }
 
 }
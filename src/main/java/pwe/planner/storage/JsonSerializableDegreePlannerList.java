@@ -3,9 +3,9 @@ package pwe.planner.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -17,6 +17,7 @@ import pwe.planner.commons.exceptions.IllegalValueException;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.planner.UniqueDegreePlannerList;
+import pwe.planner.model.planner.exceptions.DuplicateDegreePlannerException;
 
 /**
  * An immutable list of degree planners that is serializable to JSON format.
@@ -30,6 +31,8 @@ public class JsonSerializableDegreePlannerList {
     public static final String MESSAGE_DUPLICATE_DEGREE_PLANNER_CODE =
             "The module code (%1$s) is added to more than one year/semester!";
 
+    static final String DEGREE_PLANNERS_FIELD = "degreePlanners";
+
     private final List<JsonAdaptedDegreePlanner> degreePlanners = new ArrayList<>();
 
     /**
@@ -37,7 +40,7 @@ public class JsonSerializableDegreePlannerList {
      */
     @JsonCreator
     public JsonSerializableDegreePlannerList(
-            @JsonProperty("degreePlanners") List<JsonAdaptedDegreePlanner> degreePlanners) {
+            @JsonProperty(DEGREE_PLANNERS_FIELD) List<JsonAdaptedDegreePlanner> degreePlanners) {
         requireNonNull(degreePlanners);
 
         this.degreePlanners.addAll(degreePlanners);
@@ -66,30 +69,41 @@ public class JsonSerializableDegreePlannerList {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ObservableList<DegreePlanner> toModelType() throws IllegalValueException {
-        // Ensure all degree planners are unique
-        UniqueDegreePlannerList uniqueDegreePlannerList = new UniqueDegreePlannerList();
+        List<DegreePlanner> degreePlannerList = new ArrayList<>(degreePlanners.size());
         for (JsonAdaptedDegreePlanner jsonAdaptedDegreePlanner : degreePlanners) {
             DegreePlanner degreePlanner = jsonAdaptedDegreePlanner.toModelType();
-            if (uniqueDegreePlannerList.contains(degreePlanner)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_DEGREE_PLANNER);
-            }
-            uniqueDegreePlannerList.add(degreePlanner);
+            degreePlannerList.add(degreePlanner);
+        }
+
+        return toUniqueDegreePlannerList(degreePlannerList);
+    }
+
+    /**
+     * Converts {@code degreePlannerList} into the model's {@code ObservableList<DegreePlanner>} object.
+     * Checks for the same data constraints as {@link #toModelType()}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static ObservableList<DegreePlanner> toUniqueDegreePlannerList(List<DegreePlanner> degreePlannerList)
+            throws IllegalValueException {
+        // Ensure all degree planners are unique
+        UniqueDegreePlannerList uniqueDegreePlannerList = new UniqueDegreePlannerList();
+        try {
+            uniqueDegreePlannerList.setDegreePlanners(degreePlannerList);
+        } catch (DuplicateDegreePlannerException ddpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_DEGREE_PLANNER);
         }
 
         // Ensure that all module codes appears at most once
-        ObservableList<DegreePlanner> degreePlannerList = uniqueDegreePlannerList.asUnmodifiableObservableList();
-        List<Code> allDegreePlannerCodes = degreePlannerList.stream().map(DegreePlanner::getCodes)
-                .flatMap(Collection::stream).collect(Collectors.toList());
-        for (Code code : allDegreePlannerCodes) {
-            long codeAppearanceInDegreePlanners = allDegreePlannerCodes.stream()
-                    .filter(degreePlannerCode -> degreePlannerCode.equals(code))
-                    .count();
-
-            if (codeAppearanceInDegreePlanners > 1) {
-                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_DEGREE_PLANNER_CODE, code));
+        Set<Code> codes = new HashSet<>();
+        for (DegreePlanner degreePlanner : degreePlannerList) {
+            for (Code code : degreePlanner.getCodes()) {
+                if (!codes.add(code)) {
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_DEGREE_PLANNER_CODE, code));
+                }
             }
         }
 
-        return degreePlannerList;
+        return uniqueDegreePlannerList.asUnmodifiableObservableList();
     }
 }
@@ -3,8 +3,9 @@ package pwe.planner.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -29,13 +30,15 @@ class JsonSerializableModuleList {
     public static final String MESSAGE_ONE_WAY_COREQUISITE =
             "The module code (%1$s) is a corequisite of module code (%2$s), but not the other way round!";
 
+    static final String MODULES_FIELD = "modules";
+
     private final List<JsonAdaptedModule> modules = new ArrayList<>();
 
     /**
      * Constructs a {@link JsonSerializableModuleList} with the given list of {@link JsonAdaptedModule}.
      */
     @JsonCreator
-    public JsonSerializableModuleList(@JsonProperty("modules") List<JsonAdaptedModule> modules) {
+    public JsonSerializableModuleList(@JsonProperty(MODULES_FIELD) List<JsonAdaptedModule> modules) {
         requireNonNull(modules);
 
         this.modules.addAll(modules);
@@ -65,36 +68,48 @@ class JsonSerializableModuleList {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ObservableList<Module> toModelType() throws IllegalValueException {
-        // Ensure all modules are unique
-        UniqueModuleList uniqueModuleList = new UniqueModuleList();
+        List<Module> moduleList = new ArrayList<>(modules.size());
         for (JsonAdaptedModule jsonAdaptedModule : modules) {
-            Module module = jsonAdaptedModule.toModelType();
-            if (uniqueModuleList.contains(module)) {
+            moduleList.add(jsonAdaptedModule.toModelType());
+        }
+
+        return toUniqueModuleList(moduleList);
+    }
+
+    /**
+     * Converts {@code moduleList} into the model's {@code ObservableList<Module>} object.
+     * Checks for the same data constraints as {@link #toModelType()}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static ObservableList<Module> toUniqueModuleList(List<Module> moduleList) throws IllegalValueException {
+        // Ensure all modules are unique
+        Map<Code, Module> codeToModuleMap = new HashMap<>();
+        for (Module module : moduleList) {
+            if (codeToModuleMap.putIfAbsent(module.getCode(), module) != null) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE);
             }
-            uniqueModuleList.add(module);
         }
 
-        ObservableList<Module> moduleList = uniqueModuleList.asUnmodifiableObservableList();
         for (Module module : moduleList) {
             for (Code corequisite : module.getCorequisites()) {
-                Optional<Module> corequisiteModuleOptional = moduleList.stream()
-                        .filter(currentModule -> currentModule.getCode().equals(corequisite))
-                        .findFirst();
+                Module corequisiteModule = codeToModuleMap.get(corequisite);
 
                 // Ensure that all module co-requisites refers to existing modules in module list
-                if (!corequisiteModuleOptional.isPresent()) {
+                if (corequisiteModule == null) {
                     throw new IllegalValueException(String.format(MESSAGE_NON_EXISTENT_COREQUISITE, corequisite));
                 }
                 // Ensure that module co-requisites must be two-way (A has B as a co-requisite, and vice versa)
-                if (!corequisiteModuleOptional.get().getCorequisites().contains(module.getCode())) {
+                if (!corequisiteModule.getCorequisites().contains(module.getCode())) {
                     throw new IllegalValueException(String.format(MESSAGE_ONE_WAY_COREQUISITE, module.getCode(),
                             corequisite));
                 }
             }
         }
 
-        return moduleList;
+        UniqueModuleList uniqueModuleList = new UniqueModuleList();
+        uniqueModuleList.setModules(moduleList);
+        return uniqueModuleList.asUnmodifiableObservableList();
     }
 
 }
@@ -3,9 +3,9 @@ package pwe.planner.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -17,6 +17,7 @@ import pwe.planner.commons.exceptions.IllegalValueException;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.requirement.RequirementCategory;
 import pwe.planner.model.requirement.UniqueRequirementCategoryList;
+import pwe.planner.model.requirement.exceptions.DuplicateRequirementCategoryException;
 
 /**
  * An immutable list of requirement categories that is serializable to JSON format.
@@ -30,6 +31,8 @@ public class JsonSerializableRequirementCategoryList {
     public static final String MESSAGE_DUPLICATE_REQUIREMENT_CATEGORY_CODE =
             "The module code (%1$s) is added to more than one requirement category!";
 
+    static final String REQUIREMENT_CATEGORIES_FIELD = "requirementCategories";
+
     private final List<JsonAdaptedRequirementCategory> requirementCategories = new ArrayList<>();
 
     /**
@@ -38,7 +41,7 @@ public class JsonSerializableRequirementCategoryList {
      */
     @JsonCreator
     public JsonSerializableRequirementCategoryList(
-            @JsonProperty("requirementCategories") List<JsonAdaptedRequirementCategory> requirementCategories) {
+            @JsonProperty(REQUIREMENT_CATEGORIES_FIELD) List<JsonAdaptedRequirementCategory> requirementCategories) {
         requireNonNull(requirementCategories);
 
         this.requirementCategories.addAll(requirementCategories);
@@ -66,31 +69,41 @@ public class JsonSerializableRequirementCategoryList {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ObservableList<RequirementCategory> toModelType() throws IllegalValueException {
-        // Ensure all requirement categories are unique
-        UniqueRequirementCategoryList uniqueRequirementCategoryList = new UniqueRequirementCategoryList();
+        List<RequirementCategory> requirementCategoryList = new ArrayList<>(requirementCategories.size());
         for (JsonAdaptedRequirementCategory jsonAdaptedRequirementCategory : requirementCategories) {
             RequirementCategory requirementCategory = jsonAdaptedRequirementCategory.toModelType();
-            if (uniqueRequirementCategoryList.contains(requirementCategory)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_REQUIREMENT_CATEGORY);
-            }
-            uniqueRequirementCategoryList.add(requirementCategory);
+            requirementCategoryList.add(requirementCategory);
+        }
+
+        return toUniqueRequirementCategoryList(requirementCategoryList);
+    }
+
+    /**
+     * Converts {@code requirementCategoryList} into the model's {@code ObservableList<RequirementCategory>} object.
+     * Checks for the same data constraints as {@link #toModelType()}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static ObservableList<RequirementCategory> toUniqueRequirementCategoryList(
+            List<RequirementCategory> requirementCategoryList) throws IllegalValueException {
+        // Ensure all requirement categories are unique
+        UniqueRequirementCategoryList uniqueRequirementCategoryList = new UniqueRequirementCategoryList();
+        try {
+            uniqueRequirementCategoryList.setRequirementCategories(requirementCategoryList);
+        } catch (DuplicateRequirementCategoryException drce) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_REQUIREMENT_CATEGORY);
         }
 
         // Ensure that all module codes appears at most once
-        ObservableList<RequirementCategory> requirementCategories = uniqueRequirementCategoryList
-                .asUnmodifiableObservableList();
-        List<Code> allRequirementCategoryCodes = requirementCategories.stream().map(RequirementCategory::getCodeSet)
-                .flatMap(Collection::stream).collect(Collectors.toList());
-        for (Code code : allRequirementCategoryCodes) {
-            long codeAppearanceInRequirementCategories = allRequirementCategoryCodes.stream()
-                    .filter(requirementCategoryCode -> requirementCategoryCode.equals(code))
-                    .count();
-
-            if (codeAppearanceInRequirementCategories > 1) {
-                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_REQUIREMENT_CATEGORY_CODE, code));
+        Set<Code> codes = new HashSet<>();
+        for (RequirementCategory requirementCategory : requirementCategoryList) {
+            for (Code code : requirementCategory.getCodeSet()) {
+                if (!codes.add(code)) {
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_REQUIREMENT_CATEGORY_CODE, code));
+                }
             }
         }
 
-        return requirementCategories;
+        return uniqueRequirementCategoryList.asUnmodifiableObservableList();
     }
 }
@@ -0,0 +1,41 @@
+package pwe.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * The result of writing a save of the application, which either succeeded or failed with an {@code IOException}.
+ * Every written save has a result of its own, so a property holding the latest result changes after every save.
+ */
+public class SaveResult {
+    private final IOException failure;
+
+    private SaveResult(IOException failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the result of a save that succeeded.
+     */
+    public static SaveResult success() {
+        return new SaveResult(null);
+    }
+
+    /**
+     * Returns the result of a save that failed with {@code failure}.
+     */
+    public static SaveResult failure(IOException failure) {
+        requireNonNull(failure);
+
+        return new SaveResult(failure);
+    }
+
+    /**
+     * Returns the failure of the save, or an empty {@code Optional} if the save succeeded.
+     */
+    public Optional<IOException> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+}
@@ -0,0 +1,39 @@
+package pwe.planner.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.model.ReadOnlyApplication;
+
+/**
+ * Represents a storage for a snapshot of the application, which can be read faster than the application's data files.
+ */
+public interface SnapshotStorage {
+
+    /**
+     * Returns the file path of the snapshot file.
+     */
+    Path getSnapshotFilePath();
+
+    /**
+     * Returns the application from the snapshot of the data files at {@code dataFilePaths}.
+     *   Returns {@code Optional.empty()} if the snapshot file is not found, or if any of the data files has changed
+     *   since the snapshot was saved.
+     * @throws DataConversionException if the data in the snapshot is not in the expected format.
+     * @throws IOException if there was any problem when reading from the snapshot.
+     */
+    Optional<ReadOnlyApplication> readSnapshot(List<Path> dataFilePaths) throws DataConversionException, IOException;
+
+    /**
+     * Saves a snapshot of the given {@link ReadOnlyApplication}, which is read from the data files at
+     * {@code dataFilePaths}.
+     * @param application cannot be null.
+     * @param dataFilePaths cannot be null, and every data file must exist.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveSnapshot(ReadOnlyApplication application, List<Path> dataFilePaths) throws IOException;
+
+}
@@ -59,4 +59,11 @@ public interface Storage extends ApplicationStorage, UserPrefsStorage {
     @Override
     void saveRequirementCategoryList(ReadOnlyApplication requirementCategoryList) throws IOException;
 
+    /**
+     * Saves a snapshot of the data files, if a snapshot is kept and the data files have been read from or saved to
+     * since the snapshot was last read or saved.
+     * Failures are only logged, as the application can still be read from the data files.
+     */
+    void refreshSnapshot();
+
 }
@@ -5,12 +5,16 @@ import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import pwe.planner.commons.core.LogsCenter;
 import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.util.StringUtil;
+import pwe.planner.model.Application;
 import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.ReadOnlyUserPrefs;
 import pwe.planner.model.UserPrefs;
@@ -20,12 +24,26 @@ import pwe.planner.model.requirement.RequirementCategory;
 
 /**
  * Manages storage of Application data in local storage.
+ *
+ * The lists last saved by {@link #saveApplication(ReadOnlyApplication)} are remembered, so that only the data files of
+ * the lists that have changed since are rewritten. As modules, degree planners and requirement categories are
+ * immutable, a list is unchanged if it contains the same objects as when it was last saved.
+ *
+ * If a {@link SnapshotStorage} is given, the application is read from its snapshot instead of the data files when
+ * none of the data files has changed since the snapshot was saved. Neither reading nor saving the data files writes
+ * the snapshot. It is only brought up to date by {@link #refreshSnapshot()}, which is meant to be called when the
+ * application stops, so that the snapshot is written neither at startup nor after every save.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private ApplicationStorage applicationStorage;
     private UserPrefsStorage userPrefsStorage;
+    private List<Module> savedModules;
+    private List<DegreePlanner> savedDegreePlanners;
+    private List<RequirementCategory> savedRequirementCategories;
+    private Optional<SnapshotStorage> snapshotStorage;
+    private boolean isSnapshotOutdated;
 
     public StorageManager(ApplicationStorage applicationStorage,
             UserPrefsStorage userPrefsStorage) {
@@ -34,6 +52,15 @@ public class StorageManager implements Storage {
         requireAllNonNull(applicationStorage, userPrefsStorage);
         this.applicationStorage = applicationStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.snapshotStorage = Optional.empty();
+    }
+
+    public StorageManager(ApplicationStorage applicationStorage, UserPrefsStorage userPrefsStorage,
+            SnapshotStorage snapshotStorage) {
+        this(applicationStorage, userPrefsStorage);
+
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = Optional.of(snapshotStorage);
     }
 
     // ================ UserPrefs methods ==============================
@@ -55,11 +82,27 @@ public class StorageManager implements Storage {
         userPrefsStorage.saveUserPrefs(userPrefs);
     }
 
+    /**
+     * {@inheritDoc}
+     * The application is read from the snapshot if none of the data files has changed since the snapshot was saved.
+     */
     @Override
     public Optional<ReadOnlyApplication> readApplication() throws DataConversionException, IOException {
-        return readApplication(applicationStorage.getModuleListFilePath(),
+        Optional<ReadOnlyApplication> snapshot = readSnapshot();
+        if (snapshot.isPresent()) {
+            rememberSavedLists(snapshot.get());
+            isSnapshotOutdated = false;
+            return snapshot;
+        }
+
+        Optional<ReadOnlyApplication> application = readApplication(applicationStorage.getModuleListFilePath(),
                 applicationStorage.getDegreePlannerListFilePath(),
                 applicationStorage.getRequirementCategoryListFilePath());
+        if (application.isPresent()) {
+            rememberSavedLists(application.get());
+            isSnapshotOutdated = true;
+        }
+        return application;
     }
 
     @Override
@@ -75,15 +118,108 @@ public class StorageManager implements Storage {
                 .readApplication(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
     }
 
+    /**
+     * {@inheritDoc}
+     * Only the data files of the lists that have changed since they were last saved by this method, or read by
+     * {@link #readApplication()}, are rewritten.
+     */
     @Override
     public void saveApplication(ReadOnlyApplication application) throws IOException {
         requireNonNull(application);
 
-        saveModuleList(application, applicationStorage.getModuleListFilePath());
-        saveDegreePlannerList(application, applicationStorage.getDegreePlannerListFilePath());
-        saveRequirementCategoryList(application, applicationStorage.getRequirementCategoryListFilePath());
+        if (!containsSameElements(savedModules, application.getModuleList())) {
+            saveModuleList(application, applicationStorage.getModuleListFilePath());
+            savedModules = new ArrayList<>(application.getModuleList());
+        }
+        if (!containsSameElements(savedDegreePlanners, application.getDegreePlannerList())) {
+            saveDegreePlannerList(application, applicationStorage.getDegreePlannerListFilePath());
+            savedDegreePlanners = new ArrayList<>(application.getDegreePlannerList());
+        }
+        if (!containsSameElements(savedRequirementCategories, application.getRequirementCategoryList())) {
+            saveRequirementCategoryList(application, applicationStorage.getRequirementCategoryListFilePath());
+            savedRequirementCategories = new ArrayList<>(application.getRequirementCategoryList());
+        }
+    }
+
+    /**
+     * Remembers the lists of {@code application}, which was read from the data files or the snapshot, as the lists
+     * last saved, so that the first save after reading only rewrites the data files of the lists that have changed.
+     */
+    private void rememberSavedLists(ReadOnlyApplication application) {
+        savedModules = new ArrayList<>(application.getModuleList());
+        savedDegreePlanners = new ArrayList<>(application.getDegreePlannerList());
+        savedRequirementCategories = new ArrayList<>(application.getRequirementCategoryList());
+    }
+
+    /**
+     * Returns true if {@code savedList} is not null, and contains the same objects as {@code list} in the same order.
+     */
+    private static <T> boolean containsSameElements(List<T> savedList, List<T> list) {
+        if (savedList == null || savedList.size() != list.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < list.size(); i++) {
+            if (savedList.get(i) != list.get(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    // ================ Snapshot methods ==============================
+
+    /**
+     * Returns the application from the snapshot if none of the data files has changed since the snapshot was saved,
+     * or {@code Optional.empty()} otherwise, or if the snapshot cannot be read.
+     */
+    private Optional<ReadOnlyApplication> readSnapshot() {
+        if (!snapshotStorage.isPresent()) {
+            return Optional.empty();
+        }
+
+        logger.fine("Attempting to read data from snapshot: " + snapshotStorage.get().getSnapshotFilePath());
+        try {
+            return snapshotStorage.get().readSnapshot(getDataFilePaths());
+        } catch (DataConversionException | IOException e) {
+            // The data files are read instead, as the snapshot is only a copy of them
+            logger.warning("Failed to read snapshot, reading data files instead " + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The snapshot is taken of the lists last read or saved by this storage, so it is only saved if every data file
+     * has been read or saved successfully since.
+     */
+    @Override
+    public void refreshSnapshot() {
+        if (!snapshotStorage.isPresent() || !isSnapshotOutdated) {
+            return;
+        }
+        if (savedModules == null || savedDegreePlanners == null || savedRequirementCategories == null) {
+            logger.info("Not saving snapshot, as not every data file is known to be up to date");
+            return;
+        }
+
+        Application application = new Application();
+        application.setModules(savedModules);
+        application.setDegreePlanners(savedDegreePlanners);
+        application.setRequirementCategories(savedRequirementCategories);
+        logger.fine("Attempting to write to snapshot: " + snapshotStorage.get().getSnapshotFilePath());
+        try {
+            snapshotStorage.get().saveSnapshot(application, getDataFilePaths());
+            isSnapshotOutdated = false;
+        } catch (IOException ioe) {
+            logger.warning("Failed to save snapshot " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    private List<Path> getDataFilePaths() {
+        return List.of(applicationStorage.getModuleListFilePath(), applicationStorage.getDegreePlannerListFilePath(),
+                applicationStorage.getRequirementCategoryListFilePath());
+    }
 
     // ================ Application methods ==============================
 
@@ -117,6 +253,8 @@ public class StorageManager implements Storage {
         requireAllNonNull(application, filePath);
 
         logger.fine("Attempting to write to data file: " + filePath);
+        savedModules = null;
+        isSnapshotOutdated = true;
         applicationStorage.saveModuleList(application, filePath);
     }
 
@@ -153,6 +291,8 @@ public class StorageManager implements Storage {
         requireAllNonNull(application, filePath);
 
         logger.fine("Attempting to write to data file: " + filePath);
+        savedDegreePlanners = null;
+        isSnapshotOutdated = true;
         applicationStorage.saveDegreePlannerList(application, filePath);
     }
 
@@ -191,6 +331,8 @@ public class StorageManager implements Storage {
         requireAllNonNull(application, filePath);
 
         logger.fine("Attempting to write to data file: " + filePath);
+        savedRequirementCategories = null;
+        isSnapshotOutdated = true;
         applicationStorage.saveRequirementCategoryList(application, filePath);
     }
 }
@@ -7,6 +7,7 @@ import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import pwe.planner.model.CreditAggregates;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.planner.DegreePlanner;
 
@@ -17,16 +18,18 @@ public class DegreePlannerListPanel extends UiPart<Region> {
 
     private static final String FXML = "DegreePlannerListPanel.fxml";
     private ObservableList<Module> modules;
+    private CreditAggregates creditAggregates;
 
     @FXML
     private ListView<DegreePlanner> degreePlanners;
 
     public DegreePlannerListPanel(ObservableList<DegreePlanner> degreePlannerList,
-            ObservableList<Module> moduleList) {
+            ObservableList<Module> moduleList, CreditAggregates creditAggregates) {
         super(FXML);
-        requireAllNonNull(degreePlannerList, moduleList);
+        requireAllNonNull(degreePlannerList, moduleList, creditAggregates);
 
         modules = moduleList;
+        this.creditAggregates = creditAggregates;
         degreePlanners.setItems(degreePlannerList);
         degreePlanners.setCellFactory(listView -> new DegreePlannerViewCell());
     }
@@ -44,7 +47,7 @@ public class DegreePlannerListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new DegreePlannerCard(degreePlanner, modules).getRoot());
+                setGraphic(new DegreePlannerCard(degreePlanner, modules, creditAggregates).getRoot());
             }
         }
     }
@@ -128,17 +128,18 @@ public class MainWindow extends UiPart<Stage> {
         moduleListPanelPlaceholder.getChildren().add(moduleListPanel.getRoot());
 
         degreePlannerListPanel = new DegreePlannerListPanel(logic.getFilteredDegreePlannerList(),
-                logic.getApplication().getModuleList());
+                logic.getApplication().getModuleList(), logic.getCreditAggregates());
         degreePlannerListPanelPlaceholder.getChildren().add(degreePlannerListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
         requirementCategoryListPanel = new RequirementCategoryListPanel(logic.getFilteredRequirementCategoryList(),
-                logic.getApplication().getModuleList());
+                logic.getCreditAggregates());
         requirementCategoryListPanelPlaceholder.getChildren().add(requirementCategoryListPanel.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getModuleListFilePath(), logic.getApplication());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getModuleListFilePath(),
+                logic.saveResultProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand, logic.getHistory());
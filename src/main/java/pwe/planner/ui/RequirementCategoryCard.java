@@ -2,17 +2,13 @@ package pwe.planner.ui;
 
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.stream.Stream;
-
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.text.Text;
-import pwe.planner.model.module.Credits;
-import pwe.planner.model.module.Module;
+import pwe.planner.model.CreditAggregates;
 import pwe.planner.model.requirement.RequirementCategory;
 
 /**
@@ -36,30 +32,26 @@ public class RequirementCategoryCard extends UiPart<Region> {
     @FXML
     private FlowPane codes;
 
-    public RequirementCategoryCard(RequirementCategory requirementCategory, ObservableList<Module> moduleList) {
+    public RequirementCategoryCard(RequirementCategory requirementCategory, CreditAggregates creditAggregates) {
         super(FXML);
-        requireAllNonNull(requirementCategory, moduleList);
+        requireAllNonNull(requirementCategory, creditAggregates);
 
         this.requirementCategory = requirementCategory;
 
         requirementCategoryName.setText(requirementCategory.getName().fullName);
 
-        Stream<Module> modulesInRequirementCategory = requirementCategory.getCodeSet().stream()
-                .map(code -> moduleList.stream().filter(module -> module.getCode().equals(code)).findFirst().get());
-
-        int currentCredits = modulesInRequirementCategory.map(Module::getCredits).map(Credits::toString)
-                .map(Integer::parseInt).reduce(0, (totalCredits, credit) -> totalCredits + credit);
+        int currentCredits = creditAggregates.getFulfilledCredits(requirementCategory);
 
-        String creditsRequired = requirementCategory.getCredits().toString();
+        int creditsRequired = requirementCategory.getCredits().intValue();
 
         requirementCategoryCredit.setText("Modular Credits Fulfilled: " + currentCredits + "/" + creditsRequired);
 
-        if (currentCredits == Integer.parseInt(creditsRequired)) {
+        if (currentCredits == creditsRequired) {
             requirementCategoryCredit.getStyleClass().clear();
             requirementCategoryCredit.getStyleClass().add("green");
         }
 
-        if (currentCredits > Integer.parseInt(creditsRequired)) {
+        if (currentCredits > creditsRequired) {
             requirementCategoryCredit.getStyleClass().clear();
             requirementCategoryCredit.getStyleClass().add("red");
         }
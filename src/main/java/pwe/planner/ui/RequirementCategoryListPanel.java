@@ -7,30 +7,28 @@ import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
-import pwe.planner.model.module.Module;
+import pwe.planner.model.CreditAggregates;
 import pwe.planner.model.requirement.RequirementCategory;
 
 /**
  * Panel containing the list of requirement categories to be displayed.
- * This class takes in an ObservableModule list for the sole purpose of having the ObservableModule list as a
- * reference object.
- * As the ObservableRequirementCategory list only contains the module code, the ObservableModule list is necessary
- * to be able to compute the total amount of credits.
+ * As the ObservableRequirementCategory list only contains the module code, the credit aggregates of the application
+ * are necessary to display the total amount of credits.
  */
 public class RequirementCategoryListPanel extends UiPart<Region> {
     private static final String FXML = "RequirementCategoryListPanel.fxml";
-    private ObservableList<Module> modules;
+    private CreditAggregates creditAggregates;
 
 
     @FXML
     private ListView<RequirementCategory> requirementCategories;
 
     public RequirementCategoryListPanel(ObservableList<RequirementCategory> requirementCategoryList,
-            ObservableList<Module> moduleList) {
+            CreditAggregates creditAggregates) {
         super(FXML);
-        requireAllNonNull(requirementCategoryList, moduleList);
+        requireAllNonNull(requirementCategoryList, creditAggregates);
 
-        modules = moduleList;
+        this.creditAggregates = creditAggregates;
         requirementCategories.setItems(requirementCategoryList);
         requirementCategories.setCellFactory(listView -> new RequirementCategoryViewCell());
     }
@@ -48,7 +46,7 @@ public class RequirementCategoryListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new RequirementCategoryCard(requirementCategory, modules).getRoot());
+                setGraphic(new RequirementCategoryCard(requirementCategory, creditAggregates).getRoot());
             }
         }
     }
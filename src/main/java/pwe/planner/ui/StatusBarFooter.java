@@ -3,15 +3,18 @@ package pwe.planner.ui;
 import static java.util.Objects.requireNonNull;
 import static pwe.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Clock;
 import java.util.Date;
+import java.util.Optional;
 
+import javafx.beans.property.ReadOnlyProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
-import pwe.planner.model.ReadOnlyApplication;
+import pwe.planner.storage.SaveResult;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -20,6 +23,7 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SYNC_STATUS_SAVE_FAILED = "Could not save data to file: %s";
 
     /**
      * Used to generate time stamps.
@@ -39,11 +43,11 @@ public class StatusBarFooter extends UiPart<Region> {
     private Label saveLocationStatus;
 
 
-    public StatusBarFooter(Path saveLocation, ReadOnlyApplication application) {
+    public StatusBarFooter(Path saveLocation, ReadOnlyProperty<SaveResult> saveResult) {
         super(FXML);
-        requireAllNonNull(saveLocation, application);
+        requireAllNonNull(saveLocation, saveResult);
 
-        application.addListener(observable -> updateSyncStatus());
+        saveResult.addListener((observable, oldResult, newResult) -> updateSyncStatus(newResult));
         syncStatus.setText(SYNC_STATUS_INITIAL);
         saveLocationStatus.setText(Paths.get("").toAbsolutePath().relativize(
                 saveLocation.toAbsolutePath()).toString());
@@ -66,9 +70,16 @@ public class StatusBarFooter extends UiPart<Region> {
     }
 
     /**
-     * Updates "last updated" status to the current time.
+     * Updates the sync status to the failure of {@code saveResult}, or to "last updated" at the current time if the
+     * save succeeded.
      */
-    private void updateSyncStatus() {
+    private void updateSyncStatus(SaveResult saveResult) {
+        Optional<IOException> failure = saveResult.getFailure();
+        if (failure.isPresent()) {
+            syncStatus.setText(String.format(SYNC_STATUS_SAVE_FAILED, failure.get()));
+            return;
+        }
+
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
         syncStatus.setText(String.format(SYNC_STATUS_UPDATED, lastUpdated));
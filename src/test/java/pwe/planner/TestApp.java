@@ -87,9 +87,11 @@ public class TestApp extends MainApp {
     }
 
     /**
-     * Returns a defensive copy of the application data stored inside the storage file.
+     * Returns a defensive copy of the application data stored inside the storage file, once every pending save of
+     * the application has been written.
      */
     public Application readStorageapplication() {
+        logic.awaitPendingSaves();
         try {
             return new Application(storage.readApplication().get());
         } catch (DataConversionException dce) {
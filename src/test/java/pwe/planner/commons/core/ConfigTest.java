@@ -1,6 +1,7 @@
 package pwe.planner.commons.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -11,7 +12,9 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Compact data files : false\n"
+                + "Snapshot data files : false";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -21,6 +24,26 @@ public class ConfigTest {
         Config defaultConfig = new Config();
         assertNotNull(defaultConfig);
         assertTrue(defaultConfig.equals(defaultConfig));
+
+        // same values -> returns true
+        Config configCopy = new Config();
+        assertTrue(defaultConfig.equals(configCopy));
+        assertEquals(defaultConfig.hashCode(), configCopy.hashCode());
+
+        // same user prefs file as an absolute path -> returns true
+        configCopy.setUserPrefsFilePath(defaultConfig.getUserPrefsFilePath().toAbsolutePath());
+        assertTrue(defaultConfig.equals(configCopy));
+        assertEquals(defaultConfig.hashCode(), configCopy.hashCode());
+
+        // different compactDataFiles -> returns false
+        Config editedConfig = new Config();
+        editedConfig.setCompactDataFiles(true);
+        assertFalse(defaultConfig.equals(editedConfig));
+
+        // different snapshotDataFiles -> returns false
+        editedConfig = new Config();
+        editedConfig.setSnapshotDataFiles(true);
+        assertFalse(defaultConfig.equals(editedConfig));
     }
 
 
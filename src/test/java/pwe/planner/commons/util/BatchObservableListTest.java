@@ -0,0 +1,51 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchObservableListTest {
+    private final BatchObservableList<String> batchObservableList = new BatchObservableList<>();
+    private int counter;
+
+    @Before
+    public void setUp() {
+        batchObservableList.addListener((ListChangeListener<String>) change -> counter++);
+    }
+
+    @Test
+    public void modify_outsideBatch_listenersNotifiedPerModification() {
+        batchObservableList.add("first");
+        batchObservableList.add("second");
+        batchObservableList.set(0, "third");
+        assertEquals(3, counter);
+        assertEquals(Arrays.asList("third", "second"), batchObservableList);
+    }
+
+    @Test
+    public void modify_withinNestedBatches_listenersNotifiedOnceAtEndOfOutermostBatch() {
+        batchObservableList.beginBatch();
+        batchObservableList.add("first");
+        batchObservableList.beginBatch();
+        batchObservableList.add("second");
+        batchObservableList.remove(0);
+        batchObservableList.endBatch();
+        assertEquals(0, counter);
+
+        batchObservableList.endBatch();
+        assertEquals(1, counter);
+        assertEquals(Arrays.asList("second"), batchObservableList);
+    }
+
+    @Test
+    public void endBatch_noModifications_listenersNotNotified() {
+        batchObservableList.beginBatch();
+        batchObservableList.endBatch();
+        assertEquals(0, counter);
+    }
+}
@@ -1,12 +1,18 @@
 package pwe.planner.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Test;
 
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.testutil.Assert;
 import pwe.planner.testutil.SerializableTestClass;
 import pwe.planner.testutil.TestUtil;
 
@@ -27,6 +33,19 @@ public class JsonUtilTest {
         assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
+    @Test
+    public void serializeObjectToJsonFile_compact_noIndentation() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass, true);
+
+        assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), "{\"name\":\"This is a test class\","
+                + "\"listOfLocalDateTimes\":[\"-999999999-01-01T00:00:00\",\"+999999999-12-31T23:59:59.999999999\","
+                + "\"0001-01-01T01:01:00\"],"
+                + "\"mapOfIntegerToString\":{\"1\":\"One\",\"2\":\"Two\",\"3\":\"Three\"}}");
+    }
+
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
         FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
@@ -39,6 +58,40 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayFile_validFile_elementsReadInOrder() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"ignored\": {\"numbers\": [4]}, \"numbers\": [1, 2, 3]}");
+
+        List<Integer> numbers = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "numbers", Integer.class, numbers::add));
+        assertEquals(List.of(1, 2, 3), numbers);
+    }
+
+    @Test
+    public void readJsonArrayFile_missingFile_returnsFalse() throws Exception {
+        Path missingFile = TestUtil.getFilePathInSandboxFolder("missing.json");
+
+        assertFalse(JsonUtil.readJsonArrayFile(missingFile, "numbers", Integer.class, number -> { }));
+    }
+
+    @Test
+    public void readJsonArrayFile_invalidFile_throwsDataConversionException() throws Exception {
+        // missing array field
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"others\": [1, 2, 3]}");
+        Assert.assertThrows(DataConversionException.class, () ->
+                JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "numbers", Integer.class, number -> { }));
+
+        // field is not an array
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"numbers\": 1}");
+        Assert.assertThrows(DataConversionException.class, () ->
+                JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "numbers", Integer.class, number -> { }));
+
+        // element of the wrong type
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"numbers\": [\"one\"]}");
+        Assert.assertThrows(DataConversionException.class, () ->
+                JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "numbers", Integer.class, number -> { }));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -0,0 +1,49 @@
+package pwe.planner.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LruCacheTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final LruCache<String, Integer> cache = new LruCache<>(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new LruCache<String, Integer>(0);
+    }
+
+    @Test
+    public void put_nullValue_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        cache.put("one", null);
+    }
+
+    @Test
+    public void put_cacheFull_evictsLeastRecentlyUsedEntry() {
+        cache.put("one", 1);
+        cache.put("two", 2);
+        // accessing "one" makes "two" the least recently used entry
+        assertEquals(Integer.valueOf(1), cache.get("one"));
+
+        cache.put("three", 3);
+        assertEquals(2, cache.size());
+        assertNull(cache.get("two"));
+        assertEquals(Integer.valueOf(1), cache.get("one"));
+        assertEquals(Integer.valueOf(3), cache.get("three"));
+    }
+
+    @Test
+    public void clear_removesAllEntries() {
+        cache.put("one", 1);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("one"));
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.stream.Collectors;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -34,6 +35,7 @@ import pwe.planner.model.ModelManager;
 import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.UserPrefs;
 import pwe.planner.model.module.Module;
+import pwe.planner.storage.ApplicationSaver;
 import pwe.planner.storage.JsonApplicationStorage;
 import pwe.planner.storage.JsonUserPrefsStorage;
 import pwe.planner.storage.StorageManager;
@@ -58,7 +60,12 @@ public class LogicManagerTest {
                         temporaryFolder.newFile().toPath());
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
         StorageManager storage = new StorageManager(applicationStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, new ApplicationSaver(storage, Runnable::run));
+    }
+
+    @After
+    public void tearDown() {
+        logic.shutdown();
     }
 
     @Test
@@ -93,7 +100,7 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() throws Exception {
+    public void execute_storageThrowsIoException_saveFailureReported() throws Exception {
         // Setup LogicManager with JsonApplicationIoExceptionThrowingStub
         JsonApplicationStorage applicationStorage =
                 new JsonApplicationIoExceptionThrowingStub(temporaryFolder.newFile().toPath(),
@@ -101,7 +108,8 @@ public class LogicManagerTest {
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
 
         StorageManager storage = new StorageManager(applicationStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic.shutdown();
+        logic = new LogicManager(model, new ApplicationSaver(storage, Runnable::run));
 
         // Execute add command
         String addCommand = AddCommand.COMMAND_WORD + CODE_DESC_AMY + NAME_DESC_AMY + CREDITS_DESC_AMY
@@ -111,9 +119,13 @@ public class LogicManagerTest {
         ModelManager expectedModel = new ModelManager();
         expectedModel.addModule(expectedModule);
         expectedModel.commitApplication();
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandBehavior(CommandException.class, addCommand, expectedMessage, expectedModel);
+        String expectedMessage = String.format(AddCommand.MESSAGE_SUCCESS, expectedModule);
+        assertCommandSuccess(addCommand, expectedMessage, expectedModel);
         assertHistoryCorrect(addCommand);
+
+        // the failure to save in the background is reported once the pending save has been written
+        logic.awaitPendingSaves();
+        assertEquals(DUMMY_IO_EXCEPTION, logic.saveResultProperty().getValue().getFailure().get());
     }
 
     @Test
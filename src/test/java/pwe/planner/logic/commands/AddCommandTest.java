@@ -8,6 +8,8 @@ import static org.junit.Assert.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -20,14 +22,19 @@ import pwe.planner.commons.core.GuiSettings;
 import pwe.planner.logic.CommandHistory;
 import pwe.planner.logic.commands.exceptions.CommandException;
 import pwe.planner.model.Application;
+import pwe.planner.model.CreditAggregates;
 import pwe.planner.model.Model;
 import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.ReadOnlyUserPrefs;
 import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Credits;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.module.ModuleKeywordIndex;
 import pwe.planner.model.module.Name;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.model.suggestion.SuggestionFeatures;
+import pwe.planner.model.tag.Tag;
 import pwe.planner.testutil.ModuleBuilder;
 
 public class AddCommandTest {
@@ -186,6 +193,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ModuleKeywordIndex getModuleKeywordIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CreditAggregates getCreditAggregates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<SuggestionFeatures> getSuggestionFeatures(Credits bestCredits, Set<Tag> tagsToFind) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setApplication(ReadOnlyApplication application) {
             throw new AssertionError("This method should not be called.");
@@ -266,6 +288,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean isApplicationHistoryTruncated() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void applyBatch(Runnable modifications) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyProperty<Module> selectedModuleProperty() {
             throw new AssertionError("This method should not be called.");
@@ -337,6 +369,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public RequirementCategory getRequirementCategoryByCode(Code code) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addRequirementCategory(RequirementCategory requirementCategory) {
             //ToDo: implement error check
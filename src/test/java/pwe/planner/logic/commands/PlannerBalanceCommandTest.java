@@ -0,0 +1,51 @@
+package pwe.planner.logic.commands;
+
+import static pwe.planner.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static pwe.planner.testutil.TypicalPlanningModules.getTypicalPlanningModules;
+
+import org.junit.Test;
+
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.model.Application;
+import pwe.planner.model.Model;
+import pwe.planner.model.ModelManager;
+import pwe.planner.testutil.ApplicationBuilder;
+import pwe.planner.testutil.DegreePlannerBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for PlannerBalanceCommand.
+ */
+public class PlannerBalanceCommandTest {
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_unbalancedDegreePlan_movesSuggestedAndDegreePlanUnchanged() {
+        Application application = new ApplicationBuilder().withModules(getTypicalPlanningModules())
+                .withDegreePlanners(
+                        new DegreePlannerBuilder().withYear("1").withSemester("1")
+                                .withCodes("CS1010", "CS1231", "CS2040").build(),
+                        new DegreePlannerBuilder().withYear("1").withSemester("2").withCodes().build())
+                .build();
+        Model model = new ModelManager(application);
+        Model expectedModel = new ModelManager(application);
+
+        String expectedMessage = String.format(PlannerBalanceCommand.MESSAGE_SUCCESS, "0-12", "4-8",
+                "planner_move year/1 sem/2 code/CS1010");
+        assertCommandSuccess(new PlannerBalanceCommand(), model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_balancedDegreePlan_alreadyBalanced() {
+        Application application = new ApplicationBuilder().withModules(getTypicalPlanningModules())
+                .withDegreePlanners(
+                        new DegreePlannerBuilder().withYear("1").withSemester("1").withCodes("CS1010").build(),
+                        new DegreePlannerBuilder().withYear("1").withSemester("2").withCodes().build())
+                .build();
+        Model model = new ModelManager(application);
+        Model expectedModel = new ModelManager(application);
+
+        assertCommandSuccess(new PlannerBalanceCommand(), model, commandHistory,
+                PlannerBalanceCommand.MESSAGE_ALREADY_BALANCED, expectedModel);
+    }
+}
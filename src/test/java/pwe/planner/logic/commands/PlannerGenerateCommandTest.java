@@ -0,0 +1,96 @@
+package pwe.planner.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.logic.commands.CommandTestUtil.assertCommandFailure;
+import static pwe.planner.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static pwe.planner.testutil.TypicalPlanningModules.getTypicalPlanningModules;
+
+import org.junit.Test;
+
+import pwe.planner.logic.CommandHistory;
+import pwe.planner.model.Application;
+import pwe.planner.model.Model;
+import pwe.planner.model.ModelManager;
+import pwe.planner.model.module.Credits;
+import pwe.planner.testutil.ApplicationBuilder;
+import pwe.planner.testutil.DegreePlannerBuilder;
+import pwe.planner.testutil.RequirementCategoryBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for PlannerGenerateCommand.
+ */
+public class PlannerGenerateCommandTest {
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_feasiblePlan_degreePlanGenerated() {
+        Model model = new ModelManager(getApplication());
+
+        Application expectedApplication = new ApplicationBuilder(getApplication()).withDegreePlanners(
+                new DegreePlannerBuilder().withYear("1").withSemester("1").withCodes("CS1010", "CS3230").build(),
+                new DegreePlannerBuilder().withYear("1").withSemester("2").withCodes("CS1231").build()).build();
+        Model expectedModel = new ModelManager(expectedApplication);
+        expectedModel.commitApplication();
+
+        String expectedMessage = String.format(PlannerGenerateCommand.MESSAGE_SUCCESS, 8,
+                "Year 1 Semester 1: CS3230\nYear 1 Semester 2: CS1231");
+        assertCommandSuccess(new PlannerGenerateCommand(new Credits("0"), new Credits("8")), model, commandHistory,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_requirementsAlreadyFulfilled_degreePlanUnchanged() {
+        Model model = new ModelManager(getApplication());
+        model.setRequirementCategory(model.getApplication().getRequirementCategoryList().get(0),
+                new RequirementCategoryBuilder().withCredits("4").withCodes("CS1010").build());
+        Model expectedModel = new ModelManager(model.getApplication());
+
+        assertCommandSuccess(new PlannerGenerateCommand(new Credits("0"), new Credits("8")), model, commandHistory,
+                String.format(PlannerGenerateCommand.MESSAGE_ALREADY_FULFILLED, 0, 8), expectedModel);
+    }
+
+    @Test
+    public void execute_noFeasiblePlan_throwsCommandException() {
+        Model model = new ModelManager(getApplication());
+
+        assertCommandFailure(new PlannerGenerateCommand(new Credits("0"), new Credits("4")), model, commandHistory,
+                String.format(PlannerGenerateCommand.MESSAGE_NO_PLAN_FOUND, 0, 4));
+    }
+
+    @Test
+    public void equals() {
+        PlannerGenerateCommand generateCommand = new PlannerGenerateCommand(new Credits("12"), new Credits("20"));
+
+        // same object -> returns true
+        assertTrue(generateCommand.equals(generateCommand));
+
+        // same values -> returns true
+        assertTrue(generateCommand.equals(new PlannerGenerateCommand(new Credits("12"), new Credits("20"))));
+
+        // different types -> returns false
+        assertFalse(generateCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(generateCommand.equals(null));
+
+        // different credits -> returns false
+        assertFalse(generateCommand.equals(new PlannerGenerateCommand(new Credits("12"), new Credits("16"))));
+    }
+
+    /**
+     * Returns an application in which CS1010 is planned in year 1 semester 1, and a requirement category of 12
+     * credits can only be fulfilled by planning CS3230 in semester 1 and CS1231 in semester 2.
+     */
+    private static Application getApplication() {
+        return new ApplicationBuilder().withModules(getTypicalPlanningModules())
+                .withDegreePlanners(
+                        new DegreePlannerBuilder().withYear("1").withSemester("1").withCodes("CS1010").build(),
+                        new DegreePlannerBuilder().withYear("1").withSemester("2").withCodes().build())
+                .withRequirementCategories(
+                        new RequirementCategoryBuilder().withCredits("12").withCodes("CS1010", "CS1231", "CS3230")
+                                .build())
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package pwe.planner.logic.commands;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static pwe.planner.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
 import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
@@ -19,8 +21,11 @@ import pwe.planner.model.ModelManager;
 import pwe.planner.model.UserPrefs;
 import pwe.planner.model.module.Code;
 import pwe.planner.model.module.Credits;
+import pwe.planner.model.suggestion.SuggestionScorer;
+import pwe.planner.model.suggestion.WeightedSuggestionScorer;
 import pwe.planner.model.tag.Tag;
 import pwe.planner.storage.JsonSerializableApplication;
+import pwe.planner.testutil.ModuleBuilder;
 
 /**
  * Contains unit tests for PlannerSuggestCommand.
@@ -68,4 +73,76 @@ public class PlannerSuggestCommandTest {
         assertCommandSuccess(new PlannerSuggestCommand(bestCredits, tagsToFind), model, commandHistory,
                 expectedMessage, model);
     }
+
+    @Test
+    public void execute_moreModulesThanRecommended_mostRecommendedModulesFound() {
+        assertMostRecommendedModulesFound(new PlannerSuggestCommand(new Credits("4"), Set.of(new Tag("core"))));
+    }
+
+    @Test
+    public void execute_modulesRankedInPartitions_sameModulesFoundAsSequentialRanking() {
+        // every partition has fewer modules than are recommended
+        assertMostRecommendedModulesFound(new PlannerSuggestCommand(new Credits("4"), Set.of(new Tag("core")),
+                WeightedSuggestionScorer.DEFAULT, 3));
+        assertMostRecommendedModulesFound(new PlannerSuggestCommand(new Credits("4"), Set.of(new Tag("core")),
+                WeightedSuggestionScorer.DEFAULT, 1));
+    }
+
+    @Test
+    public void execute_customScorer_modulesRankedByScorer() {
+        Model modelWithManyModules = getModelWithManyModules();
+        // ranks modules by how close their credits are only
+        SuggestionScorer scorer = new WeightedSuggestionScorer(0, -1, 0, 0);
+
+        String recommendedCodesString = "CS1000, CS1002, CS1004, CS1006, CS1008, CS1010, CS1001, CS1003, CS1005, "
+                + "CS1007";
+        String expectedMessage = String.format(PlannerSuggestCommand.MESSAGE_SUCCESS, recommendedCodesString,
+                "CS1010", "CS1000, CS1002, CS1004, CS1006, CS1008, CS1010");
+
+        assertCommandSuccess(new PlannerSuggestCommand(new Credits("4"), Set.of(new Tag("core")), scorer),
+                modelWithManyModules, commandHistory, expectedMessage, modelWithManyModules);
+    }
+
+    @Test
+    public void equals() {
+        PlannerSuggestCommand suggestCommand = new PlannerSuggestCommand(new Credits("4"), Set.of(new Tag("core")));
+
+        // same values -> returns true
+        assertTrue(suggestCommand.equals(new PlannerSuggestCommand(new Credits("4"), Set.of(new Tag("core")),
+                WeightedSuggestionScorer.DEFAULT)));
+
+        // different scorer -> returns false
+        assertFalse(suggestCommand.equals(new PlannerSuggestCommand(new Credits("4"), Set.of(new Tag("core")),
+                new WeightedSuggestionScorer(0, -1, 0, 0))));
+    }
+
+    /**
+     * Executes {@code command} on a model with more modules than are recommended, and confirms that the most
+     * recommended modules are found.
+     */
+    private void assertMostRecommendedModulesFound(PlannerSuggestCommand command) {
+        Model modelWithManyModules = getModelWithManyModules();
+
+        // modules with more matching tags first, then modules with closer credits, then in order of their codes
+        String recommendedCodesString = "CS1010, CS1009, CS1011, CS1000, CS1002, CS1004, CS1006, CS1008, CS1001, "
+                + "CS1003";
+        String expectedMessage = String.format(PlannerSuggestCommand.MESSAGE_SUCCESS, recommendedCodesString,
+                "CS1010, CS1009, CS1011", "CS1010, CS1000, CS1002, CS1004, CS1006, CS1008");
+
+        assertCommandSuccess(command, modelWithManyModules, commandHistory, expectedMessage, modelWithManyModules);
+    }
+
+    /**
+     * Returns a model with 12 modules, of which the modules with even numbers have 4 credits and the last 3 modules
+     * are tagged "core".
+     */
+    private Model getModelWithManyModules() {
+        Model modelWithManyModules = new ModelManager();
+        for (int i = 0; i < 12; i++) {
+            ModuleBuilder moduleBuilder = new ModuleBuilder().withCode(String.format("CS10%02d", i))
+                    .withCredits(i % 2 == 0 ? "4" : "2");
+            modelWithManyModules.addModule(i >= 9 ? moduleBuilder.withTags("core").build() : moduleBuilder.build());
+        }
+        return modelWithManyModules;
+    }
 }
@@ -10,6 +10,7 @@ import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequir
 import org.junit.Before;
 import org.junit.Test;
 
+import pwe.planner.commons.core.UndoHistorySettings;
 import pwe.planner.commons.exceptions.IllegalValueException;
 import pwe.planner.logic.CommandHistory;
 import pwe.planner.model.Model;
@@ -53,4 +54,26 @@ public class UndoCommandTest {
         // no undoable states in model
         assertCommandFailure(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_FAILURE);
     }
+
+    @Test
+    public void execute_truncatedHistory_reportsTruncation() throws IllegalValueException {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistorySettings(new UndoHistorySettings(1, 100000));
+        Model truncatedModel = new ModelManager(new JsonSerializableApplication(getTypicalModuleList(),
+                getTypicalDegreePlannerList(), getTypicalRequirementCategoriesList()).toModelType(), userPrefs);
+        Model expectedTruncatedModel = new ModelManager(truncatedModel.getApplication(), userPrefs);
+        deleteFirstModule(truncatedModel);
+        deleteFirstModule(truncatedModel);
+        deleteFirstModule(expectedTruncatedModel);
+        deleteFirstModule(expectedTruncatedModel);
+
+        // only the most recent state can be undone
+        expectedTruncatedModel.undoApplication();
+        String expectedMessage = UndoCommand.MESSAGE_SUCCESS + " " + UndoCommand.MESSAGE_HISTORY_TRUNCATED;
+        assertCommandSuccess(new UndoCommand(), truncatedModel, commandHistory, expectedMessage,
+                expectedTruncatedModel);
+
+        expectedMessage = UndoCommand.MESSAGE_FAILURE + " " + UndoCommand.MESSAGE_HISTORY_TRUNCATED;
+        assertCommandFailure(new UndoCommand(), truncatedModel, commandHistory, expectedMessage);
+    }
 }
@@ -6,6 +6,8 @@ import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static pwe.planner.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CODE;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_MAX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_MIN_CREDITS;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_NAME;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_SEMESTER;
 import static pwe.planner.logic.parser.CliSyntax.PREFIX_TAG;
@@ -29,6 +31,8 @@ import pwe.planner.logic.commands.HelpCommand;
 import pwe.planner.logic.commands.HistoryCommand;
 import pwe.planner.logic.commands.ListCommand;
 import pwe.planner.logic.commands.PlannerAddCommand;
+import pwe.planner.logic.commands.PlannerBalanceCommand;
+import pwe.planner.logic.commands.PlannerGenerateCommand;
 import pwe.planner.logic.commands.PlannerListCommand;
 import pwe.planner.logic.commands.PlannerMoveCommand;
 import pwe.planner.logic.commands.PlannerRemoveCommand;
@@ -174,6 +178,19 @@ public class CommandParserTest {
         assertEquals(new PlannerSuggestCommand(new Credits("2"), validTags), command);
     }
 
+    @Test
+    public void parseCommand_plannerGenerate() throws Exception {
+        PlannerGenerateCommand command = (PlannerGenerateCommand) parser.parseCommand(
+                PlannerGenerateCommand.COMMAND_WORD + " " + PREFIX_MIN_CREDITS + "12 " + PREFIX_MAX_CREDITS + "20");
+        assertEquals(new PlannerGenerateCommand(new Credits("12"), new Credits("20")), command);
+    }
+
+    @Test
+    public void parseCommand_plannerBalance() throws Exception {
+        assertTrue(parser.parseCommand(PlannerBalanceCommand.COMMAND_WORD) instanceof PlannerBalanceCommand);
+        assertTrue(parser.parseCommand(PlannerBalanceCommand.COMMAND_WORD + " 3") instanceof PlannerBalanceCommand);
+    }
+
     @Test
     public void parseCommand_plannerAdd() throws Exception {
         Set<Code> codesToAdd = Set.of(new Code("CS1010"));
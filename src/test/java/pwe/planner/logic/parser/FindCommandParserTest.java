@@ -1,5 +1,6 @@
 package pwe.planner.logic.parser;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.fail;
 import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
@@ -70,6 +71,14 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, PREFIX_SEMESTER + "2", expectedFindSemesterCommand);
     }
 
+    @Test
+    public void parse_repeatedExpression_returnsEqualFindCommand() throws Exception {
+        String expression = PREFIX_NAME + "Programming " + OPERATOR_OR + WHITESPACE + PREFIX_TAG + "core";
+        FindCommand firstCommand = parser.parse(expression);
+        assertEquals(firstCommand, parser.parse(WHITESPACE + expression + WHITESPACE));
+        assertEquals(firstCommand, new FindCommandParser().parse(expression));
+    }
+
     @Test
     public void parse_validArgs() {
         // test for boolean OR
@@ -0,0 +1,55 @@
+package pwe.planner.logic.parser;
+
+import static pwe.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static pwe.planner.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_MAX_CREDITS;
+import static pwe.planner.logic.parser.CliSyntax.PREFIX_MIN_CREDITS;
+import static pwe.planner.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static pwe.planner.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import pwe.planner.logic.commands.PlannerGenerateCommand;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.planner.DegreePlanGenerator;
+
+public class PlannerGenerateCommandParserTest {
+    private PlannerGenerateCommandParser parser = new PlannerGenerateCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " " + PREFIX_MIN_CREDITS + "12 " + PREFIX_MAX_CREDITS + "20",
+                new PlannerGenerateCommand(new Credits("12"), new Credits("20")));
+    }
+
+    @Test
+    public void parse_optionalFieldsMissing_success() {
+        Credits defaultMinCredits = new Credits(PlannerGenerateCommand.DEFAULT_MIN_CREDITS);
+        Credits defaultMaxCredits = new Credits(PlannerGenerateCommand.DEFAULT_MAX_CREDITS);
+
+        // no credits
+        assertParseSuccess(parser, "", new PlannerGenerateCommand(defaultMinCredits, defaultMaxCredits));
+
+        // minimum credits only
+        assertParseSuccess(parser, " " + PREFIX_MIN_CREDITS + "8",
+                new PlannerGenerateCommand(new Credits("8"), defaultMaxCredits));
+
+        // maximum credits only
+        assertParseSuccess(parser, " " + PREFIX_MAX_CREDITS + "16",
+                new PlannerGenerateCommand(defaultMinCredits, new Credits("16")));
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        // invalid credits
+        assertParseFailure(parser, " " + PREFIX_MIN_CREDITS + "-1", Credits.MESSAGE_CONSTRAINTS);
+
+        // minimum credits more than maximum credits
+        assertParseFailure(parser, " " + PREFIX_MIN_CREDITS + "21 " + PREFIX_MAX_CREDITS + "20",
+                DegreePlanGenerator.MESSAGE_CONSTRAINTS);
+
+        // non-empty preamble
+        assertParseFailure(parser, PREAMBLE_NON_EMPTY + " " + PREFIX_MAX_CREDITS + "20",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, PlannerGenerateCommand.MESSAGE_USAGE));
+    }
+}
@@ -3,9 +3,12 @@ package pwe.planner.model;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static pwe.planner.logic.commands.CommandTestUtil.VALID_CODE_BOB;
 import static pwe.planner.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
 import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.BENSON;
 import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
 import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
 
@@ -21,6 +24,7 @@ import org.junit.rules.ExpectedException;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import pwe.planner.commons.exceptions.IllegalValueException;
 import pwe.planner.model.module.Module;
@@ -28,6 +32,7 @@ import pwe.planner.model.module.exceptions.DuplicateModuleException;
 import pwe.planner.model.planner.DegreePlanner;
 import pwe.planner.model.requirement.RequirementCategory;
 import pwe.planner.storage.JsonSerializableApplication;
+import pwe.planner.testutil.DegreePlannerBuilder;
 import pwe.planner.testutil.ModuleBuilder;
 
 public class ApplicationTest {
@@ -122,6 +127,57 @@ public class ApplicationTest {
         assertEquals(0, counter.get());
     }
 
+    @Test
+    public void applyBatch_multipleModifications_listenersNotifiedOnce() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        SimpleIntegerProperty moduleListChangeCounter = new SimpleIntegerProperty();
+        application.addListener(observable -> counter.set(counter.get() + 1));
+        application.getModuleList().addListener((ListChangeListener<Module>) change ->
+                moduleListChangeCounter.set(moduleListChangeCounter.get() + 1));
+
+        application.applyBatch(() -> {
+            application.addModule(ALICE);
+            application.addModule(BENSON);
+            application.removeModule(ALICE);
+        });
+        assertEquals(1, counter.get());
+        assertEquals(1, moduleListChangeCounter.get());
+        assertEquals(Collections.singletonList(BENSON), application.getModuleList());
+    }
+
+    @Test
+    public void applyBatch_modificationsThrowException_batchEnded() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        application.addListener(observable -> counter.set(counter.get() + 1));
+
+        assertThrows(DuplicateModuleException.class, () -> application.applyBatch(() -> {
+            application.addModule(ALICE);
+            application.addModule(ALICE);
+        }));
+        assertEquals(1, counter.get());
+
+        application.addModule(BENSON);
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    public void editModule_codeEdited_oneChangePerList() {
+        application.addModule(ALICE);
+        application.addDegreePlanner(new DegreePlannerBuilder().withCodes(ALICE.getCode().value).build());
+        SimpleIntegerProperty moduleListChangeCounter = new SimpleIntegerProperty();
+        SimpleIntegerProperty degreePlannerListChangeCounter = new SimpleIntegerProperty();
+        application.getModuleList().addListener((ListChangeListener<Module>) change ->
+                moduleListChangeCounter.set(moduleListChangeCounter.get() + 1));
+        application.getDegreePlannerList().addListener((ListChangeListener<DegreePlanner>) change ->
+                degreePlannerListChangeCounter.set(degreePlannerListChangeCounter.get() + 1));
+
+        Module editedAlice = new ModuleBuilder(ALICE).withCode(VALID_CODE_BOB).build();
+        application.editModule(ALICE, editedAlice);
+        assertEquals(1, moduleListChangeCounter.get());
+        assertEquals(1, degreePlannerListChangeCounter.get());
+        assertEquals(editedAlice, application.getModuleByCode(editedAlice.getCode()));
+    }
+
     /**
      * A stub ReadOnlyApplication whose modules list can violate interface constraints.
      */
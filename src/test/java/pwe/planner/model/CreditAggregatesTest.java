@@ -0,0 +1,98 @@
+package pwe.planner.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.testutil.DegreePlannerBuilder;
+import pwe.planner.testutil.ModuleBuilder;
+import pwe.planner.testutil.RequirementCategoryBuilder;
+
+public class CreditAggregatesTest {
+
+    private static final Module CS1010 = new ModuleBuilder().withCode("CS1010").withCredits("4").build();
+    private static final Module CS1231 = new ModuleBuilder().withCode("CS1231").withCredits("4").build();
+    private static final Module CS2040 = new ModuleBuilder().withCode("CS2040").withCredits("6").build();
+
+    private static final DegreePlanner FIRST_SEMESTER = new DegreePlannerBuilder().withYear("1").withSemester("1")
+            .withCodes("CS1010", "CS1231").build();
+    private static final DegreePlanner SECOND_SEMESTER = new DegreePlannerBuilder().withYear("1").withSemester("2")
+            .withCodes("CS2040").build();
+    private static final RequirementCategory FOUNDATION = new RequirementCategoryBuilder()
+            .withName("Computing Foundation").withCredits("20").withCodes("CS1010", "CS2040").build();
+
+    private VersionedApplication application;
+
+    @Before
+    public void setUp() {
+        Application initialState = new Application();
+        initialState.setModules(Arrays.asList(CS1010, CS1231, CS2040));
+        initialState.setDegreePlanners(Arrays.asList(FIRST_SEMESTER, SECOND_SEMESTER));
+        initialState.setRequirementCategories(Arrays.asList(FOUNDATION));
+        application = new VersionedApplication(initialState);
+    }
+
+    @Test
+    public void getCredits_initialState_creditsOfContainedModulesSummed() {
+        assertCredits(8, 6, 10);
+    }
+
+    @Test
+    public void getCredits_moduleCreditsEdited_totalsUpdated() {
+        application.editModule(CS1010, new ModuleBuilder(CS1010).withCredits("2").build());
+
+        assertCredits(6, 6, 8);
+    }
+
+    @Test
+    public void getCredits_moduleCodeEdited_totalsUpdated() {
+        application.editModule(CS1010, new ModuleBuilder(CS1010).withCode("CS1101S").withCredits("5").build());
+
+        assertCredits(9, 6, 11);
+    }
+
+    @Test
+    public void getCredits_moduleRemoved_totalsUpdated() {
+        application.removeModule(CS2040);
+
+        assertCredits(8, 0, 4);
+    }
+
+    @Test
+    public void getCredits_moduleMovedBetweenDegreePlanners_totalsUpdated() {
+        application.moveModuleBetweenPlanner(FIRST_SEMESTER, SECOND_SEMESTER, new Code("CS1010"));
+
+        assertCredits(4, 10, 10);
+    }
+
+    @Test
+    public void getCredits_undoAndRedo_totalsRestored() {
+        application.removeModule(CS1010);
+        application.commit();
+
+        application.undo();
+        assertCredits(8, 6, 10);
+
+        application.redo();
+        assertCredits(4, 6, 6);
+    }
+
+    /**
+     * Asserts that the degree planners for year 1 semester 1 and 2 have the given total credits, and that the
+     * requirement category has {@code expectedFulfilledCredits} fulfilled credits.
+     */
+    private void assertCredits(int expectedFirstSemesterCredits, int expectedSecondSemesterCredits,
+            int expectedFulfilledCredits) {
+        CreditAggregates creditAggregates = application.getCreditAggregates();
+        assertEquals(expectedFirstSemesterCredits, creditAggregates.getTotalCredits(FIRST_SEMESTER));
+        assertEquals(expectedSecondSemesterCredits, creditAggregates.getTotalCredits(SECOND_SEMESTER));
+        assertEquals(expectedFulfilledCredits, creditAggregates.getFulfilledCredits(FOUNDATION));
+    }
+}
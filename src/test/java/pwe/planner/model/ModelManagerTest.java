@@ -2,6 +2,8 @@ package pwe.planner.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.logic.commands.CommandTestUtil.VALID_CODE_BOB;
 import static pwe.planner.model.Model.PREDICATE_SHOW_ALL_MODULES;
@@ -13,15 +15,21 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import pwe.planner.commons.core.GuiSettings;
+import pwe.planner.model.module.Credits;
 import pwe.planner.model.module.Module;
 import pwe.planner.model.module.NameContainsKeywordsPredicate;
 import pwe.planner.model.module.exceptions.ModuleNotFoundException;
+import pwe.planner.model.suggestion.SuggestionFeatures;
+import pwe.planner.model.tag.Tag;
 import pwe.planner.testutil.ApplicationBuilder;
 import pwe.planner.testutil.ModuleBuilder;
 
@@ -85,6 +93,40 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getModuleListFilePath());
     }
 
+    @Test
+    public void updateFilteredModuleList_samePredicateAfterModification_filteredListUpdated() {
+        modelManager.addModule(ALICE);
+        modelManager.addModule(BENSON);
+        NameContainsKeywordsPredicate<Module> predicate = new NameContainsKeywordsPredicate<>("Alice");
+        modelManager.updateFilteredModuleList(predicate);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredModuleList());
+
+        modelManager.deleteModule(ALICE);
+        assertEquals(Collections.emptyList(), modelManager.getFilteredModuleList());
+
+        modelManager.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+        modelManager.updateFilteredModuleList(predicate);
+        assertEquals(Collections.emptyList(), modelManager.getFilteredModuleList());
+    }
+
+    @Test
+    public void getSuggestionFeatures_applicationModified_featuresComputedAgain() {
+        modelManager.addModule(ALICE);
+        Credits bestCredits = new Credits("4");
+        Set<Tag> tagsToFind = Set.of(new Tag("friends"));
+
+        // same credits and tags -> cached features reused
+        List<SuggestionFeatures> features = modelManager.getSuggestionFeatures(bestCredits, tagsToFind);
+        assertSame(features, modelManager.getSuggestionFeatures(new Credits("4"), Set.of(new Tag("friends"))));
+
+        // application modified -> features computed again
+        modelManager.addModule(BENSON);
+        List<SuggestionFeatures> newFeatures = modelManager.getSuggestionFeatures(bestCredits, tagsToFind);
+        assertNotSame(features, newFeatures);
+        assertEquals(Arrays.asList(ALICE.getCode(), BENSON.getCode()),
+                newFeatures.stream().map(SuggestionFeatures::getCode).collect(Collectors.toList()));
+    }
+
     @Test
     public void hasModule_nullModule_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
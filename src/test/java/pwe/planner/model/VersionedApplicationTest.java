@@ -4,17 +4,29 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static pwe.planner.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
 import static pwe.planner.testutil.TypicalModules.AMY;
+import static pwe.planner.testutil.TypicalModules.BENSON;
 import static pwe.planner.testutil.TypicalModules.BOB;
 import static pwe.planner.testutil.TypicalModules.CARL;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.ListChangeListener;
+import pwe.planner.commons.core.UndoHistorySettings;
+import pwe.planner.commons.exceptions.IllegalValueException;
+import pwe.planner.model.module.Module;
+import pwe.planner.storage.JsonSerializableApplication;
 import pwe.planner.testutil.ApplicationBuilder;
+import pwe.planner.testutil.ModuleBuilder;
 
 public class VersionedApplicationTest {
 
@@ -59,6 +71,50 @@ public class VersionedApplicationTest {
                 Collections.emptyList());
     }
 
+    @Test
+    public void commit_overMaxStates_oldestStatesDiscarded() {
+        VersionedApplication versionedapplication = new VersionedApplication(emptyapplication,
+                new UndoHistorySettings(2, 100));
+        commitState(versionedapplication, applicationWithAmy);
+        assertFalse(versionedapplication.isHistoryTruncated());
+        commitState(versionedapplication, applicationWithBob);
+        commitState(versionedapplication, applicationWithCarl);
+
+        assertTrue(versionedapplication.isHistoryTruncated());
+        assertapplicationListStatus(versionedapplication,
+                Arrays.asList(applicationWithAmy, applicationWithBob),
+                applicationWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_overMaxRetainedItems_mostRecentStateKept() {
+        VersionedApplication versionedapplication = new VersionedApplication(emptyapplication,
+                new UndoHistorySettings(100, 1));
+        commitState(versionedapplication, applicationWithAmy);
+        commitState(versionedapplication, applicationWithBob);
+
+        // replacing Amy with Bob retains two modules, which is over the limit but still kept as the most recent state
+        assertTrue(versionedapplication.isHistoryTruncated());
+        assertapplicationListStatus(versionedapplication,
+                Collections.singletonList(applicationWithAmy),
+                applicationWithBob,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void setUndoHistorySettings_lowerMaxStates_oldestStatesDiscarded() {
+        VersionedApplication versionedapplication = prepareapplicationList(
+                emptyapplication, applicationWithAmy, applicationWithBob);
+
+        versionedapplication.setUndoHistorySettings(new UndoHistorySettings(1, 100));
+        assertTrue(versionedapplication.isHistoryTruncated());
+        assertapplicationListStatus(versionedapplication,
+                Collections.singletonList(applicationWithAmy),
+                applicationWithBob,
+                Collections.emptyList());
+    }
+
     @Test
     public void canUndo_multipleapplicationPointerAtEndOfStateList_returnsTrue() {
         VersionedApplication versionedapplication = prepareapplicationList(
@@ -137,6 +193,57 @@ public class VersionedApplicationTest {
                 Collections.singletonList(applicationWithBob));
     }
 
+    @Test
+    public void undo_editedModule_onlyEditedModuleReplaced() {
+        VersionedApplication versionedapplication = prepareapplicationList(
+                new ApplicationBuilder().withModule(AMY).withModule(BOB).build());
+        Module editedBob = new ModuleBuilder(BOB).withName(VALID_NAME_AMY).build();
+        versionedapplication.editModule(BOB, editedBob);
+        versionedapplication.commit();
+
+        List<Module> removedModules = new ArrayList<>();
+        List<Module> addedModules = new ArrayList<>();
+        versionedapplication.getModuleList().addListener((ListChangeListener<Module>) change -> {
+            while (change.next()) {
+                removedModules.addAll(change.getRemoved());
+                addedModules.addAll(change.getAddedSubList());
+            }
+        });
+
+        versionedapplication.undo();
+        assertEquals(Collections.singletonList(editedBob), removedModules);
+        assertEquals(Collections.singletonList(BOB), addedModules);
+    }
+
+    @Test
+    public void undo_removedModuleWithCascades_stateRestored() throws IllegalValueException {
+        Application typicalApplication = new JsonSerializableApplication(getTypicalModuleList(),
+                getTypicalDegreePlannerList(), getTypicalRequirementCategoriesList()).toModelType();
+        VersionedApplication versionedapplication = prepareapplicationList(typicalApplication);
+        versionedapplication.removeModule(BENSON);
+        versionedapplication.commit();
+        Application applicationWithoutBenson = new Application(versionedapplication);
+
+        versionedapplication.undo();
+        assertEquals(typicalApplication, new Application(versionedapplication));
+
+        versionedapplication.redo();
+        assertEquals(applicationWithoutBenson, new Application(versionedapplication));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_uncommittedChangesDiscarded() {
+        VersionedApplication versionedapplication = prepareapplicationList(emptyapplication, applicationWithAmy);
+        versionedapplication.addModule(BOB);
+
+        versionedapplication.undo();
+        assertEquals(emptyapplication, new Application(versionedapplication));
+
+        versionedapplication.addModule(CARL);
+        versionedapplication.redo();
+        assertEquals(applicationWithAmy, new Application(versionedapplication));
+    }
+
     @Test
     public void undo_multipleapplicationPointerNotAtStartOfStateList_success() {
         VersionedApplication versionedapplication = prepareapplicationList(
@@ -287,6 +394,14 @@ public class VersionedApplicationTest {
         return versionedapplication;
     }
 
+    /**
+     * Resets the data of {@code versionedapplication} to {@code applicationState} and commits it.
+     */
+    private void commitState(VersionedApplication versionedapplication, ReadOnlyApplication applicationState) {
+        versionedapplication.resetData(applicationState);
+        versionedapplication.commit();
+    }
+
     /**
      * Shifts the {@code versionedapplication#currentStatePointer} by {@code count} to the left of its list.
      */
@@ -0,0 +1,86 @@
+package pwe.planner.model.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.testutil.TypicalModules.BENSON;
+import static pwe.planner.testutil.TypicalModules.getTypicalModules;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import pwe.planner.model.planner.SemesterContainsKeywordPredicate;
+import pwe.planner.testutil.ModuleBuilder;
+
+public class CompositeKeywordsPredicateTest {
+
+    private static final KeywordsPredicate<Module> NAME_MEIER = new NameContainsKeywordsPredicate<>("Meier");
+    private static final KeywordsPredicate<Module> TAG_FRIENDS = new TagContainsKeywordsPredicate<>("friends");
+    private static final KeywordsPredicate<Module> CODE_ALICE = new CodeContainsKeywordsPredicate<>("cs1010");
+    private static final KeywordsPredicate<Module> CREDITS_ONE = new CreditsContainsKeywordsPredicate<>("1");
+    private static final KeywordsPredicate<Module> SEMESTER_FOUR = new SemesterContainsKeywordPredicate<>("4");
+
+    private final UniqueModuleList uniqueModuleList = new UniqueModuleList();
+
+    @Test
+    public void equals() {
+        CompositeKeywordsPredicate<Module> andPredicate = CompositeKeywordsPredicate.and(NAME_MEIER, TAG_FRIENDS);
+
+        // same values -> returns true
+        assertTrue(andPredicate.equals(CompositeKeywordsPredicate.and(NAME_MEIER, TAG_FRIENDS)));
+
+        // different operator -> returns false
+        assertFalse(andPredicate.equals(CompositeKeywordsPredicate.or(NAME_MEIER, TAG_FRIENDS)));
+
+        // different operands -> returns false
+        assertFalse(andPredicate.equals(CompositeKeywordsPredicate.and(NAME_MEIER, CODE_ALICE)));
+
+        // different types -> returns false
+        assertFalse(andPredicate.equals(NAME_MEIER));
+    }
+
+    @Test
+    public void withKeywordIndex_indexableOperands_sameResultAsUnbound() {
+        uniqueModuleList.setModules(getTypicalModules());
+        ModuleKeywordIndex keywordIndex = uniqueModuleList.getKeywordIndex();
+
+        List<KeywordsPredicate<Module>> predicates = List.of(
+                CompositeKeywordsPredicate.and(NAME_MEIER, TAG_FRIENDS),
+                CompositeKeywordsPredicate.or(CODE_ALICE, CREDITS_ONE),
+                CompositeKeywordsPredicate.and(SEMESTER_FOUR, CompositeKeywordsPredicate.or(TAG_FRIENDS, NAME_MEIER)));
+        for (KeywordsPredicate<Module> predicate : predicates) {
+            assertEquals(filter(predicate), filter(predicate.withKeywordIndex(keywordIndex)));
+        }
+    }
+
+    @Test
+    public void withKeywordIndex_listModified_resultUpdated() {
+        uniqueModuleList.setModules(getTypicalModules());
+        KeywordsPredicate<Module> predicate = CompositeKeywordsPredicate.and(TAG_FRIENDS, CREDITS_ONE)
+                .withKeywordIndex(uniqueModuleList.getKeywordIndex());
+        assertTrue(predicate.test(BENSON));
+
+        Module editedBenson = new ModuleBuilder(BENSON).withTags().build();
+        uniqueModuleList.setModule(BENSON, editedBenson);
+        assertFalse(predicate.test(editedBenson));
+    }
+
+    @Test
+    public void withKeywordIndex_residualOperand_evaluatedAfterMoreSelectiveOperand() {
+        uniqueModuleList.setModules(getTypicalModules());
+        KeywordsPredicate<Module> residual = module -> {
+            throw new AssertionError("The residual operand should not be evaluated.");
+        };
+
+        // the code matches only ALICE, so the residual operand is not needed to reject BENSON
+        KeywordsPredicate<Module> predicate = CompositeKeywordsPredicate.and(residual, CODE_ALICE)
+                .withKeywordIndex(uniqueModuleList.getKeywordIndex());
+        assertFalse(predicate.test(BENSON));
+    }
+
+    private List<Module> filter(KeywordsPredicate<Module> predicate) {
+        return getTypicalModules().stream().filter(predicate).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,72 @@
+package pwe.planner.model.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CorequisiteGroupsTest {
+    private static final Code CODE_A = new Code("CS1010");
+    private static final Code CODE_B = new Code("CS1231");
+    private static final Code CODE_C = new Code("CS2040C");
+    private static final Code CODE_D = new Code("CS2100");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CorequisiteGroups corequisiteGroups = new CorequisiteGroups();
+
+    @Test
+    public void getCorequisites_nullCode_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        corequisiteGroups.getCorequisites(null);
+    }
+
+    @Test
+    public void join_nullCorequisites_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        corequisiteGroups.join(CODE_A, null);
+    }
+
+    @Test
+    public void getCorequisites_unknownCode_returnsEmptySet() {
+        assertTrue(corequisiteGroups.getCorequisites(CODE_A).isEmpty());
+    }
+
+    @Test
+    public void join_separateGroups_mergesGroups() {
+        corequisiteGroups.join(CODE_A, Set.of(CODE_B));
+        corequisiteGroups.join(CODE_C, Set.of(CODE_D));
+        assertEquals(Set.of(CODE_A, CODE_B, CODE_C, CODE_D), corequisiteGroups.join(CODE_C, Set.of(CODE_B)));
+
+        assertEquals(Set.of(CODE_B, CODE_C, CODE_D), corequisiteGroups.getCorequisites(CODE_A));
+        assertEquals(Set.of(CODE_A, CODE_B, CODE_C), corequisiteGroups.getCorequisites(CODE_D));
+    }
+
+    @Test
+    public void leave_codeInGroup_removesOnlyThatCode() {
+        corequisiteGroups.join(CODE_A, Set.of(CODE_B, CODE_C));
+        assertEquals(Set.of(CODE_B, CODE_C), corequisiteGroups.leave(CODE_A));
+
+        assertTrue(corequisiteGroups.getCorequisites(CODE_A).isEmpty());
+        assertEquals(Set.of(CODE_C), corequisiteGroups.getCorequisites(CODE_B));
+        assertEquals(Set.of(CODE_B), corequisiteGroups.getCorequisites(CODE_C));
+    }
+
+    @Test
+    public void leave_unknownCode_returnsEmptySet() {
+        assertTrue(corequisiteGroups.leave(CODE_A).isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllGroups() {
+        corequisiteGroups.join(CODE_A, Set.of(CODE_B));
+        corequisiteGroups.clear();
+        assertTrue(corequisiteGroups.getCorequisites(CODE_A).isEmpty());
+        assertTrue(corequisiteGroups.getCorequisites(CODE_B).isEmpty());
+    }
+}
@@ -1,11 +1,16 @@
 package pwe.planner.model.module;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.Test;
 
 import pwe.planner.testutil.Assert;
+import pwe.planner.testutil.ModuleBuilder;
 
 public class CreditsTest {
 
@@ -43,4 +48,26 @@ public class CreditsTest {
         assertTrue(Credits.isValidCredits("50")); // exactly 2 numbers
         assertTrue(Credits.isValidCredits("999")); // exactly 3 numbers
     }
+
+    @Test
+    public void intValue() {
+        assertEquals(0, new Credits("0").intValue());
+        assertEquals(999, new Credits("999").intValue());
+    }
+
+    @Test
+    public void sum() {
+        Map<Code, Module> codeToModule = Map.of(
+                new Code("CS1010"), new ModuleBuilder().withCode("CS1010").withCredits("4").build(),
+                new Code("CS2040"), new ModuleBuilder().withCode("CS2040").withCredits("6").build());
+
+        // no codes -> returns 0
+        assertEquals(0, Credits.sum(List.of(), codeToModule::get));
+
+        // codes of modules -> returns total credits
+        assertEquals(10, Credits.sum(List.of(new Code("CS1010"), new Code("CS2040")), codeToModule::get));
+
+        // code without module -> ignored
+        assertEquals(4, Credits.sum(List.of(new Code("CS1010"), new Code("CS1231")), codeToModule::get));
+    }
 }
@@ -0,0 +1,135 @@
+package pwe.planner.model.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import pwe.planner.model.tag.Tag;
+import pwe.planner.testutil.ModuleBuilder;
+
+public class ModuleKeywordIndexTest {
+    private static final Module PROGRAMMING = new ModuleBuilder().withCode("CS1010").withName("Programming Methodology")
+            .withTags("core").build();
+    private static final Module DATA_STRUCTURES = new ModuleBuilder().withCode("CS2040C")
+            .withName("Data Structures and Algorithms").withTags("core", "cplusplus").build();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueModuleList uniqueModuleList = new UniqueModuleList();
+    private final ModuleKeywordIndex keywordIndex = uniqueModuleList.getKeywordIndex();
+
+    @Test
+    public void getCodesMatchingName_nullKeyword_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        keywordIndex.getCodesMatchingName(null);
+    }
+
+    @Test
+    public void getCodesMatchingTag_nullKeyword_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        keywordIndex.getCodesMatchingTag(null);
+    }
+
+    @Test
+    public void getCodesMatchingName_keywords_matchesLikeParseKeyword() {
+        uniqueModuleList.setModules(Arrays.asList(PROGRAMMING, DATA_STRUCTURES));
+
+        // single word -> matches any word of the name, ignoring case
+        assertEquals(Set.of(PROGRAMMING.getCode()), keywordIndex.getCodesMatchingName("proGRAMming"));
+        // partial word -> no match
+        assertTrue(keywordIndex.getCodesMatchingName("Program").isEmpty());
+        // multiple words -> must match the whole name
+        assertEquals(Set.of(PROGRAMMING.getCode()), keywordIndex.getCodesMatchingName("programming methodology"));
+        assertTrue(keywordIndex.getCodesMatchingName("Data Structures").isEmpty());
+    }
+
+    @Test
+    public void getCodesMatchingName_turkishDefaultLocale_matchesIgnoringCase() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            Module linearAlgebra = new ModuleBuilder().withCode("MA1101R").withName("Linear Algebra I").build();
+            uniqueModuleList.setModules(Arrays.asList(linearAlgebra));
+
+            assertEquals(Set.of(linearAlgebra.getCode()), keywordIndex.getCodesMatchingName("LINEAR"));
+            assertEquals(Set.of(linearAlgebra.getCode()), keywordIndex.getCodesMatchingName("linear algebra i"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void getCodesMatchingTag_sharedTag_matchesAllModules() {
+        uniqueModuleList.setModules(Arrays.asList(PROGRAMMING, DATA_STRUCTURES));
+
+        assertEquals(Set.of(PROGRAMMING.getCode(), DATA_STRUCTURES.getCode()),
+                keywordIndex.getCodesMatchingTag("CORE"));
+        assertEquals(Set.of(DATA_STRUCTURES.getCode()), keywordIndex.getCodesMatchingTag("cplusplus"));
+    }
+
+    @Test
+    public void modifyList_indexKeptInSync() {
+        uniqueModuleList.add(PROGRAMMING);
+        uniqueModuleList.add(DATA_STRUCTURES);
+
+        Module editedProgramming = new ModuleBuilder(PROGRAMMING).withName("Programming in C").withTags().build();
+        uniqueModuleList.setModule(PROGRAMMING, editedProgramming);
+        assertTrue(keywordIndex.getCodesMatchingName("Methodology").isEmpty());
+        assertEquals(Set.of(PROGRAMMING.getCode()), keywordIndex.getCodesMatchingName("c"));
+        assertEquals(Set.of(DATA_STRUCTURES.getCode()), keywordIndex.getCodesMatchingTag("core"));
+
+        uniqueModuleList.remove(DATA_STRUCTURES);
+        assertTrue(keywordIndex.getCodesMatchingName("data").isEmpty());
+        assertTrue(keywordIndex.getCodesMatchingTag("core").isEmpty());
+    }
+
+    @Test
+    public void moduleBitmap_andOr_combinesMatchingModules() {
+        uniqueModuleList.setModules(Arrays.asList(PROGRAMMING, DATA_STRUCTURES));
+
+        ModuleBitmap core = keywordIndex.getCodesMatchingTag("core");
+        ModuleBitmap cplusplus = keywordIndex.getCodesMatchingTag("cplusplus");
+        ModuleBitmap programming = keywordIndex.getCodesMatchingName("programming");
+        assertEquals(Set.of(DATA_STRUCTURES.getCode()), core.and(cplusplus));
+        assertTrue(cplusplus.and(programming).isEmpty());
+        assertEquals(Set.of(PROGRAMMING.getCode(), DATA_STRUCTURES.getCode()), cplusplus.or(programming));
+    }
+
+    @Test
+    public void countMatchingTags_tagsToCount_countsTagsOfEachModule() {
+        uniqueModuleList.setModules(Arrays.asList(PROGRAMMING, DATA_STRUCTURES));
+
+        TagMatchCounts counts = keywordIndex.countMatchingTags(Set.of(new Tag("core"), new Tag("cplusplus"),
+                new Tag("python")));
+        assertEquals(1, counts.getCount(PROGRAMMING.getCode()));
+        assertEquals(2, counts.getCount(DATA_STRUCTURES.getCode()));
+        // module not in the index -> no matching tags
+        assertEquals(0, counts.getCount(new Code("CS9999")));
+
+        // no tags to count -> no matching tags
+        assertEquals(0, keywordIndex.countMatchingTags(Set.of()).getCount(PROGRAMMING.getCode()));
+    }
+
+    @Test
+    public void removeModule_ordinalReused_lookupsStayCorrect() {
+        uniqueModuleList.add(PROGRAMMING);
+        uniqueModuleList.add(DATA_STRUCTURES);
+        uniqueModuleList.remove(PROGRAMMING);
+
+        Module discrete = new ModuleBuilder().withCode("CS1231").withName("Discrete Structures").withTags("core")
+                .build();
+        uniqueModuleList.add(discrete);
+        assertEquals(2, keywordIndex.size());
+        assertEquals(Set.of(DATA_STRUCTURES.getCode(), discrete.getCode()), keywordIndex.getCodesMatchingTag("core"));
+        assertEquals(Set.of(discrete.getCode()), keywordIndex.getCodesMatchingName("discrete"));
+        assertTrue(keywordIndex.getCodesMatchingName("programming").isEmpty());
+    }
+}
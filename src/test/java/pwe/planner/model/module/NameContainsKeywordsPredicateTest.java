@@ -68,4 +68,16 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new ModuleBuilder().withName("Alice").withCredits("123")
                 .withCode("CS1010").build()));
     }
+
+    @Test
+    public void test_withKeywordIndex_matchesIndexedModules() {
+        UniqueModuleList uniqueModuleList = new UniqueModuleList();
+        Module module = new ModuleBuilder().withName("Alice Bob").build();
+        uniqueModuleList.add(module);
+        ModuleKeywordIndex keywordIndex = uniqueModuleList.getKeywordIndex();
+
+        assertTrue(new NameContainsKeywordsPredicate<Module>("aLIce").withKeywordIndex(keywordIndex).test(module));
+        assertTrue(new NameContainsKeywordsPredicate<Module>("alice BOB").withKeywordIndex(keywordIndex).test(module));
+        assertFalse(new NameContainsKeywordsPredicate<Module>("Carol").withKeywordIndex(keywordIndex).test(module));
+    }
 }
@@ -2,8 +2,10 @@ package pwe.planner.model.module;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.logic.commands.CommandTestUtil.VALID_CODE_BOB;
+import static pwe.planner.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static pwe.planner.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static pwe.planner.testutil.TypicalModules.ALICE;
 import static pwe.planner.testutil.TypicalModules.BOB;
@@ -11,6 +13,7 @@ import static pwe.planner.testutil.TypicalModules.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -49,6 +52,54 @@ public class UniqueModuleListTest {
         assertTrue(uniqueModuleList.contains(ALICE));
     }
 
+    @Test
+    public void containsCode_nullCode_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueModuleList.containsCode(null);
+    }
+
+    @Test
+    public void containsCode_codeNotInList_returnsFalse() {
+        assertFalse(uniqueModuleList.containsCode(ALICE.getCode()));
+    }
+
+    @Test
+    public void containsCode_codeInList_returnsTrue() {
+        uniqueModuleList.add(ALICE);
+        assertTrue(uniqueModuleList.containsCode(ALICE.getCode()));
+    }
+
+    @Test
+    public void getModuleByCode_codeNotInList_returnsNull() {
+        assertNull(uniqueModuleList.getModuleByCode(ALICE.getCode()));
+    }
+
+    @Test
+    public void getModuleByCode_codeInList_returnsModule() {
+        uniqueModuleList.add(ALICE);
+        assertEquals(ALICE, uniqueModuleList.getModuleByCode(ALICE.getCode()));
+    }
+
+    @Test
+    public void getModuleByCode_afterCodeEdited_returnsEditedModule() {
+        uniqueModuleList.add(ALICE);
+        Module editedAlice = new ModuleBuilder(ALICE).withCode(VALID_CODE_BOB).build();
+        uniqueModuleList.setModule(ALICE, editedAlice);
+        assertNull(uniqueModuleList.getModuleByCode(ALICE.getCode()));
+        assertEquals(editedAlice, uniqueModuleList.getModuleByCode(editedAlice.getCode()));
+    }
+
+    @Test
+    public void getModuleByCode_afterRemoveAndSetModules_returnsUpdatedModules() {
+        uniqueModuleList.add(ALICE);
+        uniqueModuleList.remove(ALICE);
+        assertNull(uniqueModuleList.getModuleByCode(ALICE.getCode()));
+
+        uniqueModuleList.setModules(Collections.singletonList(BOB));
+        assertEquals(BOB, uniqueModuleList.getModuleByCode(BOB.getCode()));
+        assertFalse(uniqueModuleList.containsCode(ALICE.getCode()));
+    }
+
     @Test
     public void add_nullModule_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -117,6 +168,82 @@ public class UniqueModuleListTest {
         uniqueModuleList.setModule(ALICE, BOB);
     }
 
+    @Test
+    public void add_moduleWithCorequisites_updatesCorequisiteGroup() {
+        Module first = new ModuleBuilder().withCode("CS1010").build();
+        Module second = new ModuleBuilder().withCode("CS1231").withCorequisites("CS1010").build();
+        Module third = new ModuleBuilder().withCode("CS2100").withCorequisites("CS1231").build();
+        uniqueModuleList.add(first);
+        uniqueModuleList.add(second);
+        uniqueModuleList.add(third);
+
+        assertEquals(new ModuleBuilder(first).withCorequisites("CS1231", "CS2100").build(),
+                uniqueModuleList.getModuleByCode(first.getCode()));
+        assertEquals(new ModuleBuilder(second).withCorequisites("CS1010", "CS2100").build(),
+                uniqueModuleList.getModuleByCode(second.getCode()));
+        assertEquals(new ModuleBuilder(third).withCorequisites("CS1010", "CS1231").build(),
+                uniqueModuleList.getModuleByCode(third.getCode()));
+    }
+
+    @Test
+    public void setModule_corequisitesCleared_leavesCorequisiteGroup() {
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS1010").build());
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS1231").withCorequisites("CS1010").build());
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS2100").withCorequisites("CS1231").build());
+
+        Module target = uniqueModuleList.getModuleByCode(new Code("CS2100"));
+        Module editedModule = new ModuleBuilder(target).withCode("CS2102").withCorequisites().build();
+        uniqueModuleList.setModule(target, editedModule);
+
+        assertEquals(editedModule, uniqueModuleList.getModuleByCode(editedModule.getCode()));
+        assertEquals(Set.of(new Code("CS1231")),
+                uniqueModuleList.getModuleByCode(new Code("CS1010")).getCorequisites());
+        assertEquals(Set.of(new Code("CS1010")),
+                uniqueModuleList.getModuleByCode(new Code("CS1231")).getCorequisites());
+    }
+
+    @Test
+    public void remove_moduleWithCorequisites_removesCodeFromCorequisiteGroup() {
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS1010").build());
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS1231").withCorequisites("CS1010").build());
+
+        uniqueModuleList.remove(uniqueModuleList.getModuleByCode(new Code("CS1231")));
+        assertTrue(uniqueModuleList.getModuleByCode(new Code("CS1010")).getCorequisites().isEmpty());
+    }
+
+    @Test
+    public void add_corequisiteAfterEarlierModuleRemoved_movedModuleUpdatedInPlace() {
+        Module first = new ModuleBuilder().withCode("CS1010").build();
+        Module second = new ModuleBuilder().withCode("CS1231").build();
+        Module third = new ModuleBuilder().withCode("CS2100").build();
+        uniqueModuleList.add(first);
+        uniqueModuleList.add(second);
+        uniqueModuleList.add(third);
+        uniqueModuleList.remove(first);
+
+        Module fourth = new ModuleBuilder().withCode("CS2102").withCorequisites("CS2100").build();
+        uniqueModuleList.add(fourth);
+        assertEquals(Arrays.asList(second, new ModuleBuilder(third).withCorequisites("CS2102").build(), fourth),
+                uniqueModuleList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceRange_revertedEdit_corequisiteGroupsRebuilt() {
+        Module first = new ModuleBuilder().withCode("CS1010").build();
+        Module second = new ModuleBuilder().withCode("CS1231").withCorequisites("CS1010").build();
+        uniqueModuleList.add(first);
+        uniqueModuleList.add(second);
+
+        // reverts the addition of the second module and the update of the first module's co-requisites
+        uniqueModuleList.replaceRange(1, 2, Collections.emptyList());
+        uniqueModuleList.replaceRange(0, 1, Collections.singletonList(first));
+        assertEquals(Collections.singletonList(first), uniqueModuleList.asUnmodifiableObservableList());
+        assertFalse(uniqueModuleList.containsCode(second.getCode()));
+
+        uniqueModuleList.add(new ModuleBuilder().withCode("CS2100").build());
+        assertTrue(uniqueModuleList.getModuleByCode(first.getCode()).getCorequisites().isEmpty());
+    }
+
     @Test
     public void remove_nullModule_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -129,6 +256,13 @@ public class UniqueModuleListTest {
         uniqueModuleList.remove(ALICE);
     }
 
+    @Test
+    public void remove_moduleWithSameCodeButDifferentFields_throwsModuleNotFoundException() {
+        uniqueModuleList.add(ALICE);
+        thrown.expect(ModuleNotFoundException.class);
+        uniqueModuleList.remove(new ModuleBuilder(ALICE).withName(VALID_NAME_BOB).build());
+    }
+
     @Test
     public void remove_existingModule_removesModule() {
         uniqueModuleList.add(ALICE);
@@ -175,6 +309,22 @@ public class UniqueModuleListTest {
         uniqueModuleList.setModules(listWithDuplicateModules);
     }
 
+    @Test
+    public void setModules_listWithCorequisites_corequisitesMatchGroups() {
+        Module first = new ModuleBuilder().withCode("CS1010").withCorequisites("CS1231").build();
+        Module second = new ModuleBuilder().withCode("CS1231").withCorequisites("CS1010", "CS2100").build();
+        Module third = new ModuleBuilder().withCode("CS2100").withCorequisites("CS1231").build();
+        uniqueModuleList.setModules(Arrays.asList(first, second, third));
+
+        UniqueModuleList expectedUniqueModuleList = new UniqueModuleList();
+        expectedUniqueModuleList.add(first);
+        expectedUniqueModuleList.add(second);
+        expectedUniqueModuleList.add(third);
+        assertEquals(expectedUniqueModuleList, uniqueModuleList);
+        assertEquals(new ModuleBuilder(first).withCorequisites("CS1231", "CS2100").build(),
+                uniqueModuleList.getModuleByCode(first.getCode()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,96 @@
+package pwe.planner.model.planner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.testutil.TypicalPlanningModules.getTypicalPlanningModules;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import pwe.planner.model.Application;
+import pwe.planner.model.module.Code;
+import pwe.planner.testutil.ApplicationBuilder;
+import pwe.planner.testutil.DegreePlannerBuilder;
+
+public class DegreePlanBalancerTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new DegreePlanBalancer(null);
+    }
+
+    @Test
+    public void getMoves_unbalancedDegreePlan_modulesMovedToLighterSemester() {
+        Application application = new ApplicationBuilder().withModules(getTypicalPlanningModules())
+                .withDegreePlanners(
+                        new DegreePlannerBuilder().withYear("1").withSemester("1")
+                                .withCodes("CS1010", "CS1231", "CS2040", "CS3230").build(),
+                        new DegreePlannerBuilder().withYear("1").withSemester("2").withCodes().build())
+                .build();
+        DegreePlanBalancer balancer = new DegreePlanBalancer(application);
+
+        DegreePlanner secondSemester = new DegreePlannerBuilder().withYear("1").withSemester("2").withCodes().build();
+        assertEquals(Map.of(new Code("CS1010"), secondSemester, new Code("CS1231"), secondSemester),
+                balancer.getMoves());
+        assertTrue(Arrays.equals(new int[] {16, 0}, balancer.getInitialCredits()));
+        assertTrue(Arrays.equals(new int[] {8, 8}, balancer.getBalancedCredits()));
+    }
+
+    @Test
+    public void getMoves_onlySwapImprovesBalance_modulesSwapped() {
+        Application application = new ApplicationBuilder().withModules(getTypicalPlanningModules())
+                .withDegreePlanners(
+                        new DegreePlannerBuilder().withYear("1").withSemester("1")
+                                .withCodes("CS2107", "CS3230").build(),
+                        new DegreePlannerBuilder().withYear("1").withSemester("2").withCodes("CS1231").build())
+                .build();
+        DegreePlanBalancer balancer = new DegreePlanBalancer(application);
+
+        // CS3230 is only offered in semester 1, and moving CS2107 alone does not improve the balance
+        assertEquals(Map.of(
+                new Code("CS1231"), new DegreePlannerBuilder().withYear("1").withSemester("1")
+                        .withCodes("CS2107", "CS3230").build(),
+                new Code("CS2107"), new DegreePlannerBuilder().withYear("1").withSemester("2")
+                        .withCodes("CS1231").build()),
+                balancer.getMoves());
+        assertTrue(Arrays.equals(new int[] {8, 8}, balancer.getBalancedCredits()));
+    }
+
+    @Test
+    public void getMoves_corequisiteNotOffered_modulesNotMoved() {
+        Application application = new ApplicationBuilder().withModules(getTypicalPlanningModules())
+                .withDegreePlanners(
+                        new DegreePlannerBuilder().withYear("1").withSemester("1").withCodes().build(),
+                        new DegreePlannerBuilder().withYear("1").withSemester("2")
+                                .withCodes("CS2101", "CS2113T").build())
+                .build();
+        DegreePlanBalancer balancer = new DegreePlanBalancer(application);
+
+        // CS2101 can only be moved along with its co-requisite CS2113T, which is only offered in semester 2
+        assertEquals(Map.of(), balancer.getMoves());
+        assertTrue(Arrays.equals(new int[] {0, 8}, balancer.getBalancedCredits()));
+    }
+
+    @Test
+    public void getMoves_specialTerm_specialTermUnchanged() {
+        Application application = new ApplicationBuilder().withModules(getTypicalPlanningModules())
+                .withDegreePlanners(
+                        new DegreePlannerBuilder().withYear("1").withSemester("1")
+                                .withCodes("CS1010", "CS1231").build(),
+                        new DegreePlannerBuilder().withYear("1").withSemester("2").withCodes().build(),
+                        new DegreePlannerBuilder().withYear("1").withSemester("3").withCodes("CS2040").build())
+                .build();
+        DegreePlanBalancer balancer = new DegreePlanBalancer(application);
+
+        assertEquals(Map.of(new Code("CS1010"),
+                new DegreePlannerBuilder().withYear("1").withSemester("2").withCodes().build()), balancer.getMoves());
+        assertTrue(Arrays.equals(new int[] {4, 4}, balancer.getBalancedCredits()));
+    }
+}
@@ -0,0 +1,86 @@
+package pwe.planner.model.planner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import static pwe.planner.testutil.TypicalPlanningModules.getTypicalPlanningModules;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import pwe.planner.model.Application;
+import pwe.planner.model.requirement.RequirementCategory;
+import pwe.planner.testutil.ApplicationBuilder;
+import pwe.planner.testutil.DegreePlannerBuilder;
+import pwe.planner.testutil.RequirementCategoryBuilder;
+
+public class DegreePlanGeneratorTest {
+    private static final long TIME_BUDGET_MILLIS = 10_000;
+    private static final RequirementCategory COMPUTING_FOUNDATION = new RequirementCategoryBuilder()
+            .withName("Computing Foundation").withCredits("8").withCodes("CS1010", "CS1231").build();
+    private static final RequirementCategory IT_PROFESSIONALISM = new RequirementCategoryBuilder()
+            .withName("IT Professionalism").withCredits("8").withCodes("CS2101", "CS3230").build();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_minCreditsMoreThanMaxCredits_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new DegreePlanGenerator(new Application(), 21, 20);
+    }
+
+    @Test
+    public void generate_feasiblePlan_fewestCreditsAddedToEarliestDegreePlanners() {
+        Application application = new ApplicationBuilder().withModules(getTypicalPlanningModules())
+                .withDegreePlanners(
+                        new DegreePlannerBuilder().withYear("1").withSemester("2").withCodes().build(),
+                        new DegreePlannerBuilder().withYear("1").withSemester("1").withCodes().build())
+                .withRequirementCategories(COMPUTING_FOUNDATION, IT_PROFESSIONALISM).build();
+
+        // CS2101 has to be added together with its co-requisite CS2113T, which is only offered in semester 2
+        List<DegreePlanner> expectedDegreePlanners = Arrays.asList(
+                new DegreePlannerBuilder().withYear("1").withSemester("1").withCodes("CS1010", "CS1231", "CS3230")
+                        .build(),
+                new DegreePlannerBuilder().withYear("1").withSemester("2").withCodes("CS2101", "CS2113T").build());
+        assertEquals(Optional.of(expectedDegreePlanners),
+                new DegreePlanGenerator(application, 0, 12).generate(TIME_BUDGET_MILLIS));
+    }
+
+    @Test
+    public void generate_modulesAlreadyPlanned_plannedModulesKept() {
+        Application application = new ApplicationBuilder().withModules(getTypicalPlanningModules())
+                .withDegreePlanners(
+                        new DegreePlannerBuilder().withYear("1").withSemester("1").withCodes().build(),
+                        new DegreePlannerBuilder().withYear("1").withSemester("2").withCodes("CS1231").build())
+                .withRequirementCategories(COMPUTING_FOUNDATION, IT_PROFESSIONALISM).build();
+
+        List<DegreePlanner> expectedDegreePlanners = Arrays.asList(
+                new DegreePlannerBuilder().withYear("1").withSemester("1").withCodes("CS1010", "CS3230").build(),
+                new DegreePlannerBuilder().withYear("1").withSemester("2").withCodes("CS1231", "CS2101", "CS2113T")
+                        .build());
+        assertEquals(Optional.of(expectedDegreePlanners),
+                new DegreePlanGenerator(application, 0, 12).generate(TIME_BUDGET_MILLIS));
+    }
+
+    @Test
+    public void generate_creditBoundsTooTight_noPlanFound() {
+        Application application = new ApplicationBuilder().withModules(getTypicalPlanningModules())
+                .withDegreePlanners(
+                        new DegreePlannerBuilder().withYear("1").withSemester("1").withCodes().build(),
+                        new DegreePlannerBuilder().withYear("1").withSemester("2").withCodes().build())
+                .withRequirementCategories(COMPUTING_FOUNDATION, IT_PROFESSIONALISM).build();
+
+        // too few credits per semester
+        assertFalse(new DegreePlanGenerator(application, 0, 8).generate(TIME_BUDGET_MILLIS).isPresent());
+
+        // too many credits per semester
+        assertFalse(new DegreePlanGenerator(application, 16, 20).generate(TIME_BUDGET_MILLIS).isPresent());
+    }
+
+}
@@ -5,6 +5,9 @@ import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
+import pwe.planner.model.module.KeywordsPredicate;
+import pwe.planner.model.module.ModuleKeywordIndex;
+import pwe.planner.model.module.UniqueModuleList;
 import pwe.planner.testutil.DegreePlannerBuilder;
 
 public class SemesterContainsKeywordPredicateTest {
@@ -42,6 +45,16 @@ public class SemesterContainsKeywordPredicateTest {
 
     }
 
+    @Test
+    public void test_boundToKeywordIndex_degreePlannersTestedWithoutIndex() {
+        ModuleKeywordIndex keywordIndex = new UniqueModuleList().getKeywordIndex();
+        KeywordsPredicate<DegreePlanner> predicate =
+                new SemesterContainsKeywordPredicate<DegreePlanner>("1").withKeywordIndex(keywordIndex);
+
+        assertTrue(predicate.test(new DegreePlannerBuilder().withSemester("1").build()));
+        assertFalse(predicate.test(new DegreePlannerBuilder().withSemester("2").build()));
+    }
+
     @Test
     public void test_semesterDoesNotContainKeywords_returnsFalse() {
         // Non-matching keyword
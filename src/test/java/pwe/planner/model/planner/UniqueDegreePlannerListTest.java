@@ -2,18 +2,22 @@ package pwe.planner.model.planner;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_1;
 import static pwe.planner.testutil.TypicalDegreePlanners.YEAR_1_SEMESTER_2;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import pwe.planner.model.module.Code;
 import pwe.planner.model.planner.exceptions.DegreePlannerNotFoundException;
 import pwe.planner.model.planner.exceptions.DuplicateDegreePlannerException;
 import pwe.planner.testutil.DegreePlannerBuilder;
@@ -47,6 +51,57 @@ public class UniqueDegreePlannerListTest {
         assertTrue(uniqueDegreePlannerList.contains(YEAR_1_SEMESTER_1));
     }
 
+    @Test
+    public void getDegreePlannerByCode_codeNotInList_returnsNull() {
+        assertNull(uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1010")));
+        assertFalse(uniqueDegreePlannerList.containsCode(new Code("CS1010")));
+    }
+
+    @Test
+    public void getDegreePlannerByCode_codeInList_returnsDegreePlanner() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        assertEquals(YEAR_1_SEMESTER_1, uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1010")));
+        assertTrue(uniqueDegreePlannerList.containsCode(new Code("CS1010")));
+    }
+
+    @Test
+    public void getDegreePlannerByCode_afterCodeMoved_returnsNewDegreePlanner() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_2);
+        DegreePlanner editedSourcePlanner = new DegreePlannerBuilder(YEAR_1_SEMESTER_1)
+                .withCodes("CS1231", "CS2100", "CS2040C", "CS2102").build();
+        Set<Code> editedDestinationCodes = new HashSet<>(YEAR_1_SEMESTER_2.getCodes());
+        editedDestinationCodes.add(new Code("CS1010"));
+        DegreePlanner editedDestinationPlanner = new DegreePlanner(YEAR_1_SEMESTER_2.getYear(),
+                YEAR_1_SEMESTER_2.getSemester(), editedDestinationCodes);
+
+        uniqueDegreePlannerList.setDegreePlanner(YEAR_1_SEMESTER_1, editedSourcePlanner);
+        uniqueDegreePlannerList.setDegreePlanner(YEAR_1_SEMESTER_2, editedDestinationPlanner);
+        assertEquals(editedDestinationPlanner, uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1010")));
+        assertEquals(editedSourcePlanner, uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1231")));
+    }
+
+    @Test
+    public void getDegreePlannerByCode_afterRemoveAndSetDegreePlanners_returnsUpdatedDegreePlanner() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        uniqueDegreePlannerList.remove(YEAR_1_SEMESTER_1);
+        assertNull(uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1010")));
+
+        uniqueDegreePlannerList.setDegreePlanners(Collections.singletonList(YEAR_1_SEMESTER_1));
+        assertEquals(YEAR_1_SEMESTER_1, uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1010")));
+    }
+
+    @Test
+    public void replaceRange_replacedDegreePlanner_indexUpdated() {
+        uniqueDegreePlannerList.add(YEAR_1_SEMESTER_1);
+        DegreePlanner editedPlanner = new DegreePlannerBuilder(YEAR_1_SEMESTER_1).withCodes("CS1231").build();
+
+        uniqueDegreePlannerList.replaceRange(0, 1, Collections.singletonList(editedPlanner));
+        assertEquals(Collections.singletonList(editedPlanner), uniqueDegreePlannerList.asUnmodifiableObservableList());
+        assertNull(uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1010")));
+        assertEquals(editedPlanner, uniqueDegreePlannerList.getDegreePlannerByCode(new Code("CS1231")));
+    }
+
     @Test
     public void add_nullDegreePlanner_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -0,0 +1,59 @@
+package pwe.planner.model.suggestion;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import pwe.planner.model.Application;
+import pwe.planner.model.module.Code;
+import pwe.planner.model.module.Credits;
+import pwe.planner.model.tag.Tag;
+import pwe.planner.testutil.DegreePlannerBuilder;
+import pwe.planner.testutil.ModuleBuilder;
+import pwe.planner.testutil.RequirementCategoryBuilder;
+
+public class SuggestionFeatureExtractorTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void extract_nullApplication_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        SuggestionFeatureExtractor.extract(null, new Application().getModuleKeywordIndex(), new Credits("4"),
+                Set.of());
+    }
+
+    @Test
+    public void extract_application_featuresOfModulesNotInDegreePlanners() {
+        Application application = new Application();
+        application.setModules(Arrays.asList(
+                new ModuleBuilder().withCode("CS1010").withCredits("4").withSemesters("1").withTags("core").build(),
+                new ModuleBuilder().withCode("CS1231").withCredits("4").withSemesters("2").withTags("core").build(),
+                new ModuleBuilder().withCode("CS2030").withCredits("4").withSemesters("1").build(),
+                new ModuleBuilder().withCode("CS2040").withCredits("2").withSemesters("2").build()));
+        // the earliest degree planner without modules is in semester 2
+        application.setDegreePlanners(Arrays.asList(
+                new DegreePlannerBuilder().withYear("1").withSemester("1").withCodes("CS1010").build(),
+                new DegreePlannerBuilder().withYear("2").withSemester("1").withCodes().build(),
+                new DegreePlannerBuilder().withYear("1").withSemester("2").withCodes().build()));
+        // 8 credits are unfulfilled in the first category, while the second category is fulfilled
+        application.setRequirementCategories(Arrays.asList(
+                new RequirementCategoryBuilder().withName("Computing Foundation").withCredits("12")
+                        .withCodes("CS1010", "CS1231").build(),
+                new RequirementCategoryBuilder().withName("IT Professionalism").withCredits("4")
+                        .withCodes("CS1010", "CS2030").build()));
+
+        List<SuggestionFeatures> expectedFeatures = Arrays.asList(
+                new SuggestionFeatures(new Code("CS1231"), 1, 0, true, 8),
+                new SuggestionFeatures(new Code("CS2030"), 0, 0, false, 0),
+                new SuggestionFeatures(new Code("CS2040"), 0, 2, true, 0));
+        assertEquals(expectedFeatures, SuggestionFeatureExtractor.extract(application,
+                application.getModuleKeywordIndex(), new Credits("4"), Set.of(new Tag("core"))));
+    }
+}
@@ -0,0 +1,45 @@
+package pwe.planner.model.suggestion;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import pwe.planner.model.module.Code;
+
+public class WeightedSuggestionScorerTest {
+    private static final SuggestionFeatures FEATURES = new SuggestionFeatures(new Code("CS1010"), 2, 3, true, 8);
+
+    @Test
+    public void score_features_weightedSumOfFeatures() {
+        assertEquals(2 * 1000 - 3 * 10 + 100 + 8 * 5, new WeightedSuggestionScorer(1000, -10, 100, 5).score(FEATURES));
+        assertEquals(-3 * 10, new WeightedSuggestionScorer(0, -10, 0, 0).score(FEATURES));
+    }
+
+    @Test
+    public void score_defaultScorer_matchingTagOutweighsCreditDifference() {
+        SuggestionFeatures oneTagLargestCreditDifference = new SuggestionFeatures(new Code("CS1010"), 1, 999, false, 0);
+        SuggestionFeatures noTagsSameCredits = new SuggestionFeatures(new Code("CS1231"), 0, 0, true, 100);
+
+        assertTrue(WeightedSuggestionScorer.DEFAULT.score(oneTagLargestCreditDifference)
+                > WeightedSuggestionScorer.DEFAULT.score(noTagsSameCredits));
+    }
+
+    @Test
+    public void equals() {
+        WeightedSuggestionScorer scorer = new WeightedSuggestionScorer(1000, -1, 0, 0);
+
+        // same values -> returns true
+        assertTrue(scorer.equals(WeightedSuggestionScorer.DEFAULT));
+
+        // same object -> returns true
+        assertTrue(scorer.equals(scorer));
+
+        // null -> returns false
+        assertFalse(scorer.equals(null));
+
+        // different weights -> returns false
+        assertFalse(scorer.equals(new WeightedSuggestionScorer(1000, -1, 1, 0)));
+    }
+}
@@ -0,0 +1,92 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static pwe.planner.testutil.TypicalModules.ALICE;
+import static pwe.planner.testutil.TypicalModules.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.model.Application;
+import pwe.planner.model.ReadOnlyApplication;
+
+public class ApplicationSaverTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private JsonApplicationStorage applicationStorage;
+
+    @Before
+    public void setUp() {
+        applicationStorage =
+                new JsonApplicationStorage(getTempFilePath("ab"), getTempFilePath("dp"), getTempFilePath("reqCat"));
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    @Test
+    public void save_applicationModifiedAfterSave_snapshotSaved() throws Exception {
+        ApplicationSaver applicationSaver = new ApplicationSaver(applicationStorage, Runnable::run);
+        Application application = new Application();
+        application.addModule(ALICE);
+
+        applicationSaver.save(application);
+        Application expectedApplication = new Application(application);
+        application.addModule(CARL);
+        applicationSaver.flush();
+
+        assertEquals(expectedApplication, new Application(applicationStorage.readApplication().get()));
+        assertFalse(applicationSaver.saveResultProperty().getValue().getFailure().isPresent());
+    }
+
+    @Test
+    public void save_multipleSaves_latestSnapshotSaved() throws Exception {
+        ApplicationSaver applicationSaver = new ApplicationSaver(applicationStorage, Runnable::run);
+        Application application = new Application();
+
+        applicationSaver.save(application);
+        application.addModule(ALICE);
+        applicationSaver.save(application);
+        application.addModule(CARL);
+        applicationSaver.save(application);
+        applicationSaver.shutdown();
+
+        assertEquals(application, new Application(applicationStorage.readApplication().get()));
+    }
+
+    @Test
+    public void save_storageThrowsIoException_saveFailureReported() {
+        ApplicationSaver applicationSaver = new ApplicationSaver(new JsonApplicationIoExceptionThrowingStub(
+                getTempFilePath("ab"), getTempFilePath("dp"), getTempFilePath("reqCat")), Runnable::run);
+
+        applicationSaver.save(new Application());
+        applicationSaver.flush();
+
+        assertEquals(DUMMY_IO_EXCEPTION, applicationSaver.saveResultProperty().getValue().getFailure().get());
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class JsonApplicationIoExceptionThrowingStub extends JsonApplicationStorage {
+        private JsonApplicationIoExceptionThrowingStub(Path moduleListFilePath, Path degreePlannerListFilePath,
+                Path requirementCategoryListFilePath) {
+            super(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
+        }
+
+        @Override
+        public void saveModuleList(ReadOnlyApplication application, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package pwe.planner.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
+import static pwe.planner.testutil.TypicalModules.getTypicalModuleList;
+import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
+
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.util.FileUtil;
+import pwe.planner.model.Application;
+import pwe.planner.testutil.Assert;
+
+public class BinarySnapshotStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    /**
+     * Returns the paths of two data files with some content in the temporary folder.
+     */
+    private List<Path> getDataFilePaths() throws IOException {
+        List<Path> dataFilePaths = List.of(getTempFilePath("ab"), getTempFilePath("dp"));
+        for (Path dataFilePath : dataFilePaths) {
+            FileUtil.writeToFile(dataFilePath, "data");
+        }
+        return dataFilePaths;
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new BinarySnapshotStorage(null));
+    }
+
+    @Test
+    public void readSnapshot_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinarySnapshotStorage(getTempFilePath("missing.snapshot")).readSnapshot(getDataFilePaths())
+                .isPresent());
+    }
+
+    @Test
+    public void saveAndReadSnapshot_allInOrder_success() throws Exception {
+        BinarySnapshotStorage snapshotStorage = new BinarySnapshotStorage(getTempFilePath("app.snapshot"));
+        List<Path> dataFilePaths = getDataFilePaths();
+        Application original = new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType();
+
+        snapshotStorage.saveSnapshot(original, dataFilePaths);
+        assertEquals(original, new Application(snapshotStorage.readSnapshot(dataFilePaths).get()));
+
+        // empty application
+        snapshotStorage.saveSnapshot(new Application(), dataFilePaths);
+        assertEquals(new Application(), new Application(snapshotStorage.readSnapshot(dataFilePaths).get()));
+    }
+
+    @Test
+    public void readSnapshot_invalidSnapshot_throwsException() throws Exception {
+        Path snapshotFilePath = getTempFilePath("app.snapshot");
+        BinarySnapshotStorage snapshotStorage = new BinarySnapshotStorage(snapshotFilePath);
+        List<Path> dataFilePaths = getDataFilePaths();
+
+        // not a snapshot
+        Files.write(snapshotFilePath, "{ \"modules\": [] }".getBytes());
+        Assert.assertThrows(DataConversionException.class, () -> snapshotStorage.readSnapshot(dataFilePaths));
+
+        // unsupported version
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(snapshotFilePath))) {
+            output.writeInt(BinarySnapshotStorage.MAGIC_NUMBER);
+            output.writeInt(BinarySnapshotStorage.VERSION + 1);
+        }
+        Assert.assertThrows(DataConversionException.class, () -> snapshotStorage.readSnapshot(dataFilePaths));
+
+        // truncated snapshot
+        snapshotStorage.saveSnapshot(new JsonSerializableApplication(getTypicalModuleList(),
+                getTypicalDegreePlannerList(), getTypicalRequirementCategoriesList()).toModelType(), dataFilePaths);
+        byte[] snapshot = Files.readAllBytes(snapshotFilePath);
+        Files.write(snapshotFilePath, Arrays.copyOf(snapshot, snapshot.length - 1));
+        Assert.assertThrows(EOFException.class, () -> snapshotStorage.readSnapshot(dataFilePaths));
+    }
+
+    @Test
+    public void readSnapshot_dataFilesChanged_emptyResult() throws Exception {
+        BinarySnapshotStorage snapshotStorage = new BinarySnapshotStorage(getTempFilePath("app.snapshot"));
+        List<Path> dataFilePaths = getDataFilePaths();
+        Path dataFilePath = dataFilePaths.get(0);
+        FileTime lastModifiedTime = Files.getLastModifiedTime(dataFilePath);
+        snapshotStorage.saveSnapshot(new Application(), dataFilePaths);
+
+        // data file with same size and last modified time -> snapshot read
+        FileUtil.writeToFile(dataFilePath, "edit");
+        Files.setLastModifiedTime(dataFilePath, lastModifiedTime);
+        assertTrue(snapshotStorage.readSnapshot(dataFilePaths).isPresent());
+
+        // data file with different size -> empty result
+        FileUtil.writeToFile(dataFilePath, "edited");
+        Files.setLastModifiedTime(dataFilePath, lastModifiedTime);
+        assertFalse(snapshotStorage.readSnapshot(dataFilePaths).isPresent());
+
+        // data file with earlier last modified time -> empty result
+        FileUtil.writeToFile(dataFilePath, "data");
+        Files.setLastModifiedTime(dataFilePath, FileTime.fromMillis(lastModifiedTime.toMillis() - 1000));
+        assertFalse(snapshotStorage.readSnapshot(dataFilePaths).isPresent());
+
+        // data file restored -> snapshot read
+        Files.setLastModifiedTime(dataFilePath, lastModifiedTime);
+        assertTrue(snapshotStorage.readSnapshot(dataFilePaths).isPresent());
+
+        // data file deleted -> empty result
+        Files.delete(dataFilePath);
+        assertFalse(snapshotStorage.readSnapshot(dataFilePaths).isPresent());
+
+        // different number of data files -> empty result
+        assertFalse(snapshotStorage.readSnapshot(dataFilePaths.subList(1, 2)).isPresent());
+    }
+}
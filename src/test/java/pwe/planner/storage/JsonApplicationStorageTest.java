@@ -19,6 +19,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.util.FileUtil;
 import pwe.planner.model.Application;
 import pwe.planner.model.ReadOnlyApplication;
 
@@ -130,6 +131,23 @@ public class JsonApplicationStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveApplication_compact_success() throws Exception {
+        Path moduleListFilePath = testFolder.getRoot().toPath().resolve("TempModuleApplication.json");
+        Path degreePlannerListFilePath = testFolder.getRoot().toPath().resolve("TempDegreePlannerApplication.json");
+        Path requirementCategoryListFilePath =
+                testFolder.getRoot().toPath().resolve("TempRequirementCategoryApplication.json");
+        Application original = new JsonSerializableApplication(getTypicalModuleList(), getTypicalDegreePlannerList(),
+                getTypicalRequirementCategoriesList()).toModelType();
+        JsonApplicationStorage jsonApplicationStorage =
+                new JsonApplicationStorage(moduleListFilePath, degreePlannerListFilePath,
+                        requirementCategoryListFilePath, true);
+
+        jsonApplicationStorage.saveApplication(original);
+        assertFalse(FileUtil.readFromFile(moduleListFilePath).contains("\n"));
+        assertEquals(original, new Application(jsonApplicationStorage.readApplication().get()));
+    }
+
     @Test
     public void saveApplication_nullApplication_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -26,6 +26,8 @@ public class JsonSerializableApplicationTest {
             TEST_DATA_FOLDER.resolve("typicalRequirementCategoryList.json");
     private static final Path INVALID_MODULE_FILE = TEST_DATA_FOLDER.resolve("invalidModuleList.json");
     private static final Path DUPLICATE_MODULE_FILE = TEST_DATA_FOLDER.resolve("duplicateModuleList.json");
+    private static final Path ONE_WAY_COREQUISITE_MODULE_FILE =
+            TEST_DATA_FOLDER.resolve("oneWayCorequisiteModuleList.json");
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -70,4 +72,14 @@ public class JsonSerializableApplicationTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toModelType_oneWayCorequisite_throwsIllegalValueException() throws Exception {
+        JsonSerializableModuleList dataFromFile = JsonUtil.readJsonFile(ONE_WAY_COREQUISITE_MODULE_FILE,
+                JsonSerializableModuleList.class).get();
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(JsonSerializableModuleList.MESSAGE_ONE_WAY_COREQUISITE, "CS1010",
+                "CS1231"));
+        dataFromFile.toModelType();
+    }
+
 }
@@ -1,11 +1,19 @@
 package pwe.planner.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static pwe.planner.testutil.TypicalDegreePlanners.getTypicalDegreePlannerList;
 import static pwe.planner.testutil.TypicalRequirementCategories.getTypicalRequirementCategoriesList;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -13,9 +21,14 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import pwe.planner.commons.core.GuiSettings;
+import pwe.planner.commons.exceptions.DataConversionException;
+import pwe.planner.commons.util.FileUtil;
 import pwe.planner.model.Application;
 import pwe.planner.model.ReadOnlyApplication;
 import pwe.planner.model.UserPrefs;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.testutil.Assert;
+import pwe.planner.testutil.DegreePlannerBuilder;
 import pwe.planner.testutil.TypicalModules;
 
 public class StorageManagerTest {
@@ -67,9 +80,138 @@ public class StorageManagerTest {
         assertEquals(original, new Application(retrieved));
     }
 
+    @Test
+    public void saveApplication_unchangedLists_onlyChangedListsSaved() throws Exception {
+        List<String> savedFiles = new ArrayList<>();
+        StorageManager storageManager = new StorageManager(new JsonApplicationStorageSpy(getTempFilePath("ab"),
+                getTempFilePath("dp"), getTempFilePath("reqCat"), savedFiles),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        Application application =
+                new JsonSerializableApplication(TypicalModules.getTypicalModuleList(), getTypicalDegreePlannerList(),
+                        getTypicalRequirementCategoriesList()).toModelType();
+
+        // first save -> all lists saved
+        storageManager.saveApplication(application);
+        assertEquals(List.of("ab", "dp", "reqCat"), savedFiles);
+
+        // nothing changed -> no list saved
+        savedFiles.clear();
+        storageManager.saveApplication(application);
+        assertEquals(List.of(), savedFiles);
+
+        // degree planner changed -> only degree planners saved
+        DegreePlanner degreePlanner = application.getDegreePlannerList().get(0);
+        application.setDegreePlanner(degreePlanner, new DegreePlannerBuilder(degreePlanner).withCodes().build());
+        storageManager.saveApplication(application);
+        assertEquals(List.of("dp"), savedFiles);
+
+        // module list saved separately -> module list saved again
+        savedFiles.clear();
+        storageManager.saveModuleList(application);
+        storageManager.saveApplication(application);
+        assertEquals(List.of("ab", "ab"), savedFiles);
+
+        assertEquals(application, new Application(storageManager.readApplication().get()));
+    }
+
+    @Test
+    public void saveApplication_afterReadApplication_onlyChangedListsSaved() throws Exception {
+        List<String> savedFiles = new ArrayList<>();
+        StorageManager storageManager = new StorageManager(new JsonApplicationStorageSpy(getTempFilePath("ab"),
+                getTempFilePath("dp"), getTempFilePath("reqCat"), savedFiles),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        storageManager.saveApplication(new JsonSerializableApplication(TypicalModules.getTypicalModuleList(),
+                getTypicalDegreePlannerList(), getTypicalRequirementCategoriesList()).toModelType());
+
+        // new session -> lists read are remembered as saved
+        savedFiles.clear();
+        storageManager = new StorageManager(new JsonApplicationStorageSpy(getTempFilePath("ab"),
+                getTempFilePath("dp"), getTempFilePath("reqCat"), savedFiles),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        Application application = new Application(storageManager.readApplication().get());
+
+        // degree planner changed -> only degree planners saved
+        DegreePlanner degreePlanner = application.getDegreePlannerList().get(0);
+        application.setDegreePlanner(degreePlanner, new DegreePlannerBuilder(degreePlanner).withCodes().build());
+        storageManager.saveApplication(application);
+        assertEquals(List.of("dp"), savedFiles);
+    }
+
+    @Test
+    public void readApplication_snapshot_readWhenDataFilesUnchanged() throws Exception {
+        Path moduleListFilePath = getTempFilePath("ab");
+        StorageManager storageManager = new StorageManager(new JsonApplicationStorage(moduleListFilePath,
+                getTempFilePath("dp"), getTempFilePath("reqCat")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new BinarySnapshotStorage(getTempFilePath("snapshot")));
+        Application application =
+                new JsonSerializableApplication(TypicalModules.getTypicalModuleList(), getTypicalDegreePlannerList(),
+                        getTypicalRequirementCategoriesList()).toModelType();
+        storageManager.saveApplication(application);
+
+        // application saved or read from the data files -> snapshot not saved until refreshed
+        assertFalse(Files.exists(getTempFilePath("snapshot")));
+        assertEquals(application, new Application(storageManager.readApplication().get()));
+        assertFalse(Files.exists(getTempFilePath("snapshot")));
+        storageManager.refreshSnapshot();
+        assertTrue(Files.exists(getTempFilePath("snapshot")));
+
+        // invalid data file of the same size and last modified time -> snapshot read instead of the data file
+        FileTime lastModifiedTime = Files.getLastModifiedTime(moduleListFilePath);
+        long size = Files.size(moduleListFilePath);
+        FileUtil.writeToFile(moduleListFilePath, String.join("", Collections.nCopies((int) size, "x")));
+        Files.setLastModifiedTime(moduleListFilePath, lastModifiedTime);
+        assertEquals(application, new Application(storageManager.readApplication().get()));
+
+        // data file with an earlier last modified time -> invalid data file read
+        Files.setLastModifiedTime(moduleListFilePath, FileTime.fromMillis(lastModifiedTime.toMillis() - 1000));
+        Assert.assertThrows(DataConversionException.class, storageManager::readApplication);
+
+        // data file saved -> snapshot kept but outdated, and read again once refreshed
+        Application emptyApplication = new Application();
+        storageManager.saveApplication(emptyApplication);
+        assertTrue(Files.exists(getTempFilePath("snapshot")));
+        assertEquals(emptyApplication, new Application(storageManager.readApplication().get()));
+        storageManager.refreshSnapshot();
+        lastModifiedTime = Files.getLastModifiedTime(moduleListFilePath);
+        size = Files.size(moduleListFilePath);
+        FileUtil.writeToFile(moduleListFilePath, String.join("", Collections.nCopies((int) size, "x")));
+        Files.setLastModifiedTime(moduleListFilePath, lastModifiedTime);
+        assertEquals(emptyApplication, new Application(storageManager.readApplication().get()));
+    }
+
     @Test
     public void getModuleListFilePath() {
         assertNotNull(storageManager.getModuleListFilePath());
     }
 
+    /**
+     * A spy class that records the names of the data files saved.
+     */
+    private static class JsonApplicationStorageSpy extends JsonApplicationStorage {
+        private final List<String> savedFiles;
+
+        private JsonApplicationStorageSpy(Path moduleListFilePath, Path degreePlannerListFilePath,
+                Path requirementCategoryListFilePath, List<String> savedFiles) {
+            super(moduleListFilePath, degreePlannerListFilePath, requirementCategoryListFilePath);
+            this.savedFiles = savedFiles;
+        }
+
+        @Override
+        public void saveModuleList(ReadOnlyApplication application, Path filePath) throws IOException {
+            savedFiles.add(filePath.getFileName().toString());
+            super.saveModuleList(application, filePath);
+        }
+
+        @Override
+        public void saveDegreePlannerList(ReadOnlyApplication application, Path filePath) throws IOException {
+            savedFiles.add(filePath.getFileName().toString());
+            super.saveDegreePlannerList(application, filePath);
+        }
+
+        @Override
+        public void saveRequirementCategoryList(ReadOnlyApplication application, Path filePath) throws IOException {
+            savedFiles.add(filePath.getFileName().toString());
+            super.saveRequirementCategoryList(application, filePath);
+        }
+    }
 }
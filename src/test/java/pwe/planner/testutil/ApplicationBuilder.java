@@ -1,7 +1,12 @@
 package pwe.planner.testutil;
 
+import java.util.Arrays;
+import java.util.List;
+
 import pwe.planner.model.Application;
 import pwe.planner.model.module.Module;
+import pwe.planner.model.planner.DegreePlanner;
+import pwe.planner.model.requirement.RequirementCategory;
 
 /**
  * A utility class to help with building application objects.
@@ -28,6 +33,31 @@ public class ApplicationBuilder {
         return this;
     }
 
+    /**
+     * Replaces the modules of the {@code Application} that we are building with {@code modules}.
+     */
+    public ApplicationBuilder withModules(List<Module> modules) {
+        application.setModules(modules);
+        return this;
+    }
+
+    /**
+     * Replaces the degree planners of the {@code Application} that we are building with {@code degreePlanners}.
+     */
+    public ApplicationBuilder withDegreePlanners(DegreePlanner... degreePlanners) {
+        application.setDegreePlanners(Arrays.asList(degreePlanners));
+        return this;
+    }
+
+    /**
+     * Replaces the requirement categories of the {@code Application} that we are building with
+     * {@code requirementCategories}.
+     */
+    public ApplicationBuilder withRequirementCategories(RequirementCategory... requirementCategories) {
+        application.setRequirementCategories(Arrays.asList(requirementCategories));
+        return this;
+    }
+
     public Application build() {
         return application;
     }
@@ -0,0 +1,35 @@
+package pwe.planner.testutil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import pwe.planner.model.module.Module;
+
+/**
+ * A utility class containing a list of {@code Module} objects with credits, semesters and co-requisites set, to be
+ * used in tests that plan modules into semesters.
+ */
+public class TypicalPlanningModules {
+
+    public static final Module CS1010 = new ModuleBuilder().withCode("CS1010").withCredits("4")
+            .withSemesters("1", "2").build();
+    public static final Module CS1231 = new ModuleBuilder().withCode("CS1231").withCredits("4")
+            .withSemesters("1", "2").build();
+    public static final Module CS2040 = new ModuleBuilder().withCode("CS2040").withCredits("4")
+            .withSemesters("1", "2", "3").build();
+    public static final Module CS2101 = new ModuleBuilder().withCode("CS2101").withCredits("4")
+            .withSemesters("1", "2").withCorequisites("CS2113T").build();
+    public static final Module CS2107 = new ModuleBuilder().withCode("CS2107").withCredits("8")
+            .withSemesters("1", "2").build();
+    public static final Module CS2113T = new ModuleBuilder().withCode("CS2113T").withCredits("4")
+            .withSemesters("2").withCorequisites("CS2101").build();
+    public static final Module CS3230 = new ModuleBuilder().withCode("CS3230").withCredits("4")
+            .withSemesters("1").build();
+
+    private TypicalPlanningModules() {} // prevents instantiation
+
+    public static List<Module> getTypicalPlanningModules() {
+        return new ArrayList<>(Arrays.asList(CS1010, CS1231, CS2040, CS2101, CS2107, CS2113T, CS3230));
+    }
+}
@@ -1,10 +1,11 @@
 package pwe.planner.ui;
 
 import static org.junit.Assert.assertEquals;
-import static pwe.planner.testutil.TypicalModules.ALICE;
 import static pwe.planner.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
+import static pwe.planner.ui.StatusBarFooter.SYNC_STATUS_SAVE_FAILED;
 import static pwe.planner.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Clock;
@@ -18,7 +19,8 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
-import pwe.planner.model.Application;
+import javafx.beans.property.SimpleObjectProperty;
+import pwe.planner.storage.SaveResult;
 
 public class StatusBarFooterTest extends GuiUnitTest {
 
@@ -29,7 +31,7 @@ public class StatusBarFooterTest extends GuiUnitTest {
     private static final Clock injectedClock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
 
     private StatusBarFooterHandle statusBarFooterHandle;
-    private final Application application = new Application();
+    private final SimpleObjectProperty<SaveResult> saveResult = new SimpleObjectProperty<>();
 
     @BeforeClass
     public static void setUpBeforeClass() {
@@ -45,7 +47,7 @@ public class StatusBarFooterTest extends GuiUnitTest {
 
     @Before
     public void setUp() {
-        StatusBarFooter statusBarFooter = new StatusBarFooter(STUB_SAVE_LOCATION, application);
+        StatusBarFooter statusBarFooter = new StatusBarFooter(STUB_SAVE_LOCATION, saveResult);
         uiPartRule.setUiPart(statusBarFooter);
 
         statusBarFooterHandle = new StatusBarFooterHandle(statusBarFooter.getRoot());
@@ -56,8 +58,19 @@ public class StatusBarFooterTest extends GuiUnitTest {
         // initial state
         assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(), SYNC_STATUS_INITIAL);
 
-        // after application is updated
-        guiRobot.interact(() -> application.addModule(ALICE));
+        // after application is saved
+        guiRobot.interact(() -> saveResult.set(SaveResult.success()));
+        assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(),
+                String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
+
+        // after saving fails
+        IOException ioException = new IOException("dummy exception");
+        guiRobot.interact(() -> saveResult.set(SaveResult.failure(ioException)));
+        assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(),
+                String.format(SYNC_STATUS_SAVE_FAILED, ioException));
+
+        // after saving succeeds again
+        guiRobot.interact(() -> saveResult.set(SaveResult.success()));
         assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(),
                 String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
     }
@@ -66,6 +66,7 @@ public class HelpCommandSystemTest extends ApplicationSystemTest {
         // assert that the status bar too is updated correctly while the help window is open
         // note: the select command tested above does not update the status bar
         executeCommand(DeleteCommand.COMMAND_WORD + " " + INDEX_FIRST_MODULE.getOneBased());
+        guiRobot.waitForEvent(() -> !StatusBarFooter.SYNC_STATUS_INITIAL.equals(getStatusBarFooter().getSyncStatus()));
         assertNotEquals(StatusBarFooter.SYNC_STATUS_INITIAL, getStatusBarFooter().getSyncStatus());
     }
 